@@ -0,0 +1,57 @@
+package benchmarks;
+
+import coursera.algorithms.DijkstraShortestPathFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Single source shortest paths with delta-stepping on a pool of 1, 8, 16 and 32 threads, to compare
+ *              with DijkstraBenchmark.singleSource on the same graphs. Delta 0 is the default bucket width.
+ *              The speedup is only meaningful on a machine with at least as many cores as threads.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeltaSteppingBenchmark {
+    private static final int NUM_OF_SOURCES = 16;
+
+    @Param({"grid:1000000", "grid:4000000"})
+    public String graph;
+
+    @Param({"1", "8", "16", "32"})
+    public int threads;
+
+    @Param({"0"})
+    public int delta;
+
+    private DijkstraShortestPathFinder finder;
+    private ForkJoinPool pool;
+    private int[] sources;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        finder = new DijkstraShortestPathFinder(Fixtures.file(graph));
+        pool = new ForkJoinPool(threads);
+        sources = new SplittableRandom(42).ints(NUM_OF_SOURCES, 1, finder.getGraph().getNumOfVertices() + 1).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void singleSource(){
+        next = (next + 1) % NUM_OF_SOURCES;
+        finder.deltaSteppingSearch(sources[next], delta, pool);
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import coursera.algorithms.DijkstraShortestPathFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Shortest path queries of DijkstraShortestPathFinder: single source to all vertices, one pair with
+ *              early exit, one pair with bidirectional search, one pair with ALT (16 landmarks, built in setup),
+ *              and 64 sources on the common ForkJoinPool (reported per source).
+ *              Sources and targets are fixed random vertices, used round robin.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DijkstraBenchmark {
+    private static final int NUM_OF_QUERIES = 1024;
+    private static final int NUM_OF_SOURCES = 64;
+    private static final int NUM_OF_LANDMARKS = 16;
+
+    @Param({"dijkstraData", "grid:100000", "grid:1000000"})
+    public String graph;
+
+    private DijkstraShortestPathFinder finder;
+    private int[] sources;
+    private int[] targets;
+    private int[] multiSources;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        finder = new DijkstraShortestPathFinder(Fixtures.file(graph));
+        int n = finder.getGraph().getNumOfVertices();
+        SplittableRandom random = new SplittableRandom(42);
+        sources = random.ints(NUM_OF_QUERIES, 1, n + 1).toArray();
+        targets = random.ints(NUM_OF_QUERIES, 1, n + 1).toArray();
+        multiSources = random.ints(NUM_OF_SOURCES, 1, n + 1).toArray();
+        finder.buildLandmarks(Math.min(NUM_OF_LANDMARKS, n));
+    }
+
+    private int nextQuery(){
+        next = (next + 1) & (NUM_OF_QUERIES - 1);
+        return next;
+    }
+
+    @Benchmark
+    public void singleSource(){
+        finder.dijkstraSearch(sources[nextQuery()]);
+    }
+
+    @Benchmark
+    public int pointToPoint(){
+        int q = nextQuery();
+        return finder.distance(sources[q], targets[q]);
+    }
+
+    @Benchmark
+    public int bidirectional(){
+        int q = nextQuery();
+        return finder.bidirectionalDistance(sources[q], targets[q]);
+    }
+
+    @Benchmark
+    public int alt(){
+        int q = nextQuery();
+        return finder.altDistance(sources[q], targets[q]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_SOURCES)
+    public int[][] multiSource(){
+        return finder.multiSourceSearch(multiSources);
+    }
+}
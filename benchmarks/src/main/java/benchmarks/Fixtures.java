@@ -0,0 +1,139 @@
+package benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Input files for the benchmarks.
+ *              A spec is either the name of a file in the data folder (without ".txt", e.g. "dijkstraData"), or a
+ *              generator with a size, written once per JVM to a temporary file in the format of the data folder:
+ *                  "powerlaw:N"  directed graph with N vertices and a power-law degree distribution (preferential
+ *                                attachment, 5 out-edges per vertex, 30% of them answered by a reverse edge so
+ *                                there are non-trivial SCCs), SCC.txt format
+ *                  "grid:N"      road-network-like grid of about N vertices with edges to the 4 neighbors in both
+ *                                directions and random lengths 1 ... 100, dijkstraData.txt format
+ *                  "random:N"    N random numbers in 0 ... 999999, one per line (streams for median maintenance)
+ *                  "wide:N"      N random numbers in -10^11 ... 10^11, one per line (2-SUM, like the assignment)
+ *              The data folder is "data", or the folder given by system property data.dir.
+ *              Generators are seeded, so every run of a benchmark sees the same input.
+ **/
+final class Fixtures {
+    private static final long SEED = 20210301L;
+    private static final Map<String, String> generated = new HashMap<>(); //Spec -> generated file
+
+    private Fixtures(){
+    }
+
+    /**
+     * @param spec data file name without ".txt", or generator spec
+     * @return path of the input file
+     */
+    static synchronized String file(String spec){
+        int colon = spec.indexOf(':');
+        if (colon < 0){
+            return Paths.get(System.getProperty("data.dir", "data"), spec + ".txt").toString();
+        }
+        String path = generated.get(spec);
+        if (path == null){
+            String kind = spec.substring(0, colon);
+            int size = Integer.parseInt(spec.substring(colon + 1));
+            try{
+                Path file = Files.createTempFile(kind + "-" + size + "-", ".txt");
+                file.toFile().deleteOnExit();
+                switch (kind){
+                    case "powerlaw":
+                        writePowerLawGraph(file, size);
+                        break;
+                    case "grid":
+                        writeGridGraph(file, size);
+                        break;
+                    case "random":
+                        writeRandomNumbers(file, size, 0, 1000000);
+                        break;
+                    case "wide":
+                        writeRandomNumbers(file, size, -100000000000L, 100000000001L);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Error: unknown generator " + kind + ".");
+                }
+                path = file.toString();
+            }
+            catch (IOException e){
+                throw new UncheckedIOException(e);
+            }
+            generated.put(spec, path);
+        }
+        return path;
+    }
+
+    /**
+     * @param spec data file name without ".txt", or generator spec
+     * @return the numbers of the file, one per line
+     */
+    static int[] numbers(String spec){
+        try (Stream<String> lines = Files.lines(Paths.get(file(spec)))){
+            return lines.map(String::trim).filter(line -> !line.isEmpty()).mapToInt(Integer::parseInt).toArray();
+        }
+        catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writePowerLawGraph(Path file, int numOfVertices) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int outDegree = 5;
+        int[] endpoints = new int[2 * outDegree * numOfVertices]; //every edge endpoint, so a pick is degree-weighted
+        int numOfEndpoints = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file)){
+            for (int v = 1; v <= numOfVertices; v++){
+                for (int i = 0; i < outDegree && v > 1; i++){
+                    int target = (numOfEndpoints == 0 || random.nextInt(4) == 0) ? 1 + random.nextInt(v - 1)
+                            : endpoints[random.nextInt(numOfEndpoints)];
+                    out.write(v + " " + target + "\n");
+                    if (random.nextInt(10) < 3){
+                        out.write(target + " " + v + "\n");
+                    }
+                    endpoints[numOfEndpoints++] = v;
+                    endpoints[numOfEndpoints++] = target;
+                }
+            }
+        }
+    }
+
+    private static void writeGridGraph(Path file, int approximateSize) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int side = Math.max(2, (int) Math.round(Math.sqrt(approximateSize)));
+        try (BufferedWriter out = Files.newBufferedWriter(file)){
+            for (int row = 0; row < side; row++){
+                for (int col = 0; col < side; col++){
+                    StringBuilder line = new StringBuilder().append(row * side + col + 1);
+                    int[][] neighbors = {{row - 1, col}, {row + 1, col}, {row, col - 1}, {row, col + 1}};
+                    for (int[] neighbor : neighbors){
+                        if (neighbor[0] < 0 || neighbor[0] >= side || neighbor[1] < 0 || neighbor[1] >= side){continue;}
+                        line.append('\t').append(neighbor[0] * side + neighbor[1] + 1).append(',')
+                                .append(1 + random.nextInt(100));
+                    }
+                    out.write(line.append('\n').toString());
+                }
+            }
+        }
+    }
+
+    private static void writeRandomNumbers(Path file, int size, long low, long high) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        try (BufferedWriter out = Files.newBufferedWriter(file)){
+            for (int i = 0; i < size; i++){
+                out.write(random.nextLong(low, high) + "\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import coursera.algorithms.CompactGraph;
+import coursera.algorithms.DijkstraShortestPathFinder;
+import coursera.algorithms.GraphSCCFinder;
+import coursera.algorithms.GraphSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Startup cost of a graph: parsing the text file versus loading a binary snapshot (GraphSnapshot).
+ *              Graphs in dijkstraData.txt format are loaded by DijkstraShortestPathFinder, others by GraphSCCFinder.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphLoadBenchmark {
+    @Param({"dijkstraData", "grid:100000", "grid:1000000", "powerlaw:100000", "powerlaw:1000000"})
+    public String graph;
+
+    private String textFile;
+    private String snapshotFile;
+    private boolean weighted; //True for dijkstraData.txt format
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        textFile = Fixtures.file(graph);
+        weighted = graph.startsWith("grid") || graph.startsWith("dijkstra");
+        File snapshot = File.createTempFile("graph-", ".snap");
+        snapshot.deleteOnExit();
+        snapshotFile = snapshot.getPath();
+        CompactGraph loaded = weighted ? new DijkstraShortestPathFinder(textFile).getGraph()
+                : new GraphSCCFinder(textFile).getGraph();
+        GraphSnapshot.write(snapshotFile, loaded, loaded.reverse(), null);
+    }
+
+    @Benchmark
+    public Object loadText() throws IOException {
+        return weighted ? new DijkstraShortestPathFinder(textFile) : new GraphSCCFinder(textFile);
+    }
+
+    @Benchmark
+    public Object loadSnapshot() throws IOException {
+        return weighted ? DijkstraShortestPathFinder.fromSnapshot(snapshotFile, null)
+                : GraphSCCFinder.fromSnapshot(snapshotFile, null);
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import coursera.algorithms.BoundedDomainMedian;
+import coursera.algorithms.KllQuantileSketch;
+import coursera.algorithms.MedianEngine;
+import coursera.algorithms.SlidingWindowMedian;
+import coursera.algorithms.TwoHeapMedian;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Cost per number of the median engines of StreamMedianFinder: offer one number and read the median.
+ *              The stream is replayed from the start with a fresh engine when it ends, so an engine never holds
+ *              more numbers than the stream has.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MedianBenchmark {
+    @Param({"Median", "random:1000000"})
+    public String stream;
+
+    @Param({"heaps", "boundedDomain", "sketch", "window"})
+    public String engine;
+
+    private int[] numbers;
+    private int minValue;
+    private int maxValue;
+    private MedianEngine medianEngine;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        numbers = Fixtures.numbers(stream);
+        minValue = Integer.MAX_VALUE;
+        maxValue = Integer.MIN_VALUE;
+        for (int number : numbers){
+            minValue = Math.min(minValue, number);
+            maxValue = Math.max(maxValue, number);
+        }
+        medianEngine = newEngine();
+    }
+
+    private MedianEngine newEngine(){
+        switch (engine){
+            case "heaps":
+                return new TwoHeapMedian(numbers.length);
+            case "boundedDomain":
+                return new BoundedDomainMedian(minValue, maxValue);
+            case "sketch":
+                return KllQuantileSketch.forError(0.01);
+            case "window":
+                return new SlidingWindowMedian(1000);
+            default:
+                throw new IllegalArgumentException("Error: unknown median engine " + engine + ".");
+        }
+    }
+
+    @Benchmark
+    public int offerAndMedian(){
+        if (next == numbers.length){
+            next = 0;
+            medianEngine = newEngine();
+        }
+        medianEngine.offer(numbers[next++]);
+        return medianEngine.currentMedian();
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import coursera.algorithms.CompactGraph;
+import coursera.algorithms.ShortestPathSearcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Single source Dijkstra search with each frontier queue of ShortestPathSearcher, on a side x side
+ *              grid (edges to the 4 neighbors in both directions) with random lengths 1 ... maxLength.
+ *              Dial's buckets scan the empty keys between settled distances, so their cost grows with maxLength
+ *              while the radix heap does not care. The crossing point is where ShortestPathSearcher.DIAL_MAX_WEIGHT
+ *              belongs. DIAL is only run up to 65536, the old cutoff. The graph is built in memory, there is no file
+ *              for each length.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+    private static final int NUM_OF_SOURCES = 16;
+
+    @Param({"100", "500"})
+    public int side;
+
+    @Param({"100", "1024", "4096", "16384", "65536"})
+    public int maxLength;
+
+    @Param({"DIAL", "RADIX", "BINARY_HEAP"})
+    public ShortestPathSearcher.QueueType queue;
+
+    private ShortestPathSearcher searcher;
+    private int[] sources;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        searcher = new ShortestPathSearcher(grid(side, maxLength), queue);
+        sources = new SplittableRandom(42).ints(NUM_OF_SOURCES, 0, side * side).toArray();
+    }
+
+    @Benchmark
+    public void singleSource(){
+        next = (next + 1) % NUM_OF_SOURCES;
+        searcher.search(sources[next]);
+    }
+
+    private static CompactGraph grid(int side, int maxLength){
+        SplittableRandom random = new SplittableRandom(20210301L);
+        int numOfEdges = 4 * side * (side - 1);
+        int[] tails = new int[numOfEdges];
+        int[] heads = new int[numOfEdges];
+        int[] lengths = new int[numOfEdges];
+        int m = 0;
+        for (int row = 0; row < side; row++){
+            for (int col = 0; col < side; col++){
+                int v = row * side + col;
+                int[][] neighbors = {{row - 1, col}, {row + 1, col}, {row, col - 1}, {row, col + 1}};
+                for (int[] neighbor : neighbors){
+                    if (neighbor[0] < 0 || neighbor[0] >= side || neighbor[1] < 0 || neighbor[1] >= side){continue;}
+                    tails[m] = v;
+                    heads[m] = neighbor[0] * side + neighbor[1];
+                    lengths[m++] = 1 + random.nextInt(maxLength);
+                }
+            }
+        }
+        return CompactGraph.fromEdges(side * side, tails, heads, lengths, m);
+    }
+}
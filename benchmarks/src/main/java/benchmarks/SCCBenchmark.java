@@ -0,0 +1,48 @@
+package benchmarks;
+
+import coursera.algorithms.CompactGraph;
+import coursera.algorithms.GraphSCCFinder;
+import coursera.algorithms.GraphSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Full SCC decomposition (top five sizes) with each GraphSCCFinder algorithm.
+ *              Run with -p graph=SCC to include the assignment's SCC.txt when it is in the data folder.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SCCBenchmark {
+    @Param({"powerlaw:100000", "powerlaw:1000000"})
+    public String graph;
+
+    @Param({"KOSARAJU", "TARJAN", "PARALLEL"})
+    public String algorithm;
+
+    private GraphSCCFinder finder;
+    private GraphSCCFinder.Algorithm sccAlgorithm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File snapshot = File.createTempFile("scc-", ".snap");
+        snapshot.deleteOnExit();
+        CompactGraph loaded = new GraphSCCFinder(Fixtures.file(graph)).getGraph();
+        GraphSnapshot.write(snapshot.getPath(), loaded, loaded.reverse(), null);
+        //without the reversed graph of the snapshot, Kosaraju builds it on its first call only
+        finder = GraphSCCFinder.fromSnapshot(snapshot.getPath(), null);
+        sccAlgorithm = GraphSCCFinder.Algorithm.valueOf(algorithm);
+    }
+
+    @Benchmark
+    public int[] getSCC(){
+        return finder.getSCC(sccAlgorithm);
+    }
+}
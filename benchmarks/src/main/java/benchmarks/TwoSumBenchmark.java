@@ -0,0 +1,47 @@
+package benchmarks;
+
+import coursera.algorithms.TwoSumFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Number of targets t in [-10000, 10000] that are a sum of two distinct numbers (the assignment
+ *              query), with each TwoSumFinder engine. Numbers are loaded once per trial.
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TwoSumBenchmark {
+    @Param({"2sum-test2", "wide:1000000", "wide:8000000"})
+    public String numbers;
+
+    @Param({"sorted", "bucketed", "parallel"})
+    public String engine;
+
+    private TwoSumFinder finder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        finder = new TwoSumFinder(Fixtures.file(numbers));
+    }
+
+    @Benchmark
+    public int numOfTwoSum(){
+        switch (engine){
+            case "sorted":
+                return finder.numOfTwoSumSorted(-10000, 10000);
+            case "bucketed":
+                return finder.numOfTwoSumBucketed(-10000, 10000);
+            case "parallel":
+                return finder.numOfTwoSumParallel(-10000, 10000);
+            default:
+                throw new IllegalArgumentException("Error: unknown 2-SUM engine " + engine + ".");
+        }
+    }
+}
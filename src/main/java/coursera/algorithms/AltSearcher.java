@@ -0,0 +1,138 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DijkstraShortestPathFinder.
+ *              This class holds the scratch state of one point to point ALT query: A* search where the key of a
+ *              vertex is its Dijkstra score plus the LandmarkIndex lower bound of its distance to the target.
+ *              The bound is consistent, so this is Dijkstra's algorithm on reduced edge lengths: each vertex is
+ *              settled once, keys never decrease, and the distance of the target is exact when it is settled.
+ *              Vertices far off the direction of the target get large keys and are never settled, and
+ *              vertices that provably can not reach the target are not queued at all.
+ *              Keys are monotone, so the frontier is a RadixHeap. Like ShortestPathSearcher, the arrays are
+ *              reused across queries with an epoch stamp, and a searcher serves one thread.
+ *              With a null index the bound is 0 and the search is plain Dijkstra with early exit.
+ *              Scores are capped at ShortestPathSearcher.MAX_LENGTH and so are keys (summed in long): capping
+ *              keeps keys monotone, and a capped vertex is never on a shorter path than the target's own key.
+ *              All vertices are vertex index (ID - 1).
+ **/
+public class AltSearcher {
+    private final CompactGraph graph;
+    private final LandmarkIndex index; //Null for plain Dijkstra
+    private final int[] distance; //Dijkstra score of each vertex, valid only if stamp[v] == epoch
+    private final int[] predecessor; //Previous vertex on the shortest path to v, valid only if stamp[v] == epoch
+    private final int[] bound; //Lower bound of the distance from v to the target, valid only if stamp[v] == epoch
+    private final int[] stamp; //Query in which v was last reached
+    private final RadixHeap frontier; //Reached but not settled vertices keyed by score + bound
+    private int epoch;
+    private int numOfSettled; //Vertices settled by the last query
+
+    /**
+     * @param graph the graph with edge lengths as weights, lengths must not be negative
+     * @param index landmark tables of graph, or null for plain Dijkstra
+     */
+    public AltSearcher(CompactGraph graph, LandmarkIndex index){
+        if (!graph.hasWeights() || graph.getMinWeight() < 0){
+            throw new IllegalArgumentException("Error: ALT search needs non-negative edge lengths.");
+        }
+        if (index != null && index.getNumOfVertices() != graph.getNumOfVertices()){
+            throw new IllegalArgumentException("Error: landmark index does not belong to the graph.");
+        }
+        this.graph = graph;
+        this.index = index;
+        int n = graph.getNumOfVertices();
+        distance = new int[n];
+        predecessor = new int[n];
+        bound = new int[n];
+        stamp = new int[n];
+        frontier = new RadixHeap(n);
+    }
+
+    /**
+     * Compute the shortest path from source to target
+     * @param source index of source vertex
+     * @param target index of target vertex
+     * @return shortest path length, Integer.MAX_VALUE if target can not be reached
+     */
+    public int searchTo(int source, int target){
+        frontier.clear();
+        epoch = EpochStamps.next(stamp, epoch);
+        numOfSettled = 0;
+        int sourceBound = boundOf(source, target);
+        if (sourceBound == LandmarkIndex.NO_PATH){
+            return Integer.MAX_VALUE;
+        }
+        distance[source] = 0;
+        predecessor[source] = -1;
+        bound[source] = sourceBound;
+        stamp[source] = epoch;
+        frontier.insert(source, sourceBound);
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        while (!frontier.isEmpty()){
+            int v = frontier.extractMin();
+            numOfSettled++;
+            if (v == target){
+                return distance[v];
+            }
+            int score = distance[v];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                int w = targets[e];
+                int newScore = ShortestPathSearcher.addLength(score, weights[e]);
+                if (stamp[w] != epoch){
+                    stamp[w] = epoch;
+                    bound[w] = boundOf(w, target);
+                    distance[w] = newScore;
+                    predecessor[w] = v;
+                    if (bound[w] != LandmarkIndex.NO_PATH){ //vertices that can not lead to target are not queued
+                        frontier.insert(w, keyOf(newScore, bound[w]));
+                    }
+                }
+                else if (newScore < distance[w] && frontier.contains(w)){
+                    distance[w] = newScore;
+                    predecessor[w] = v;
+                    frontier.decreaseKey(w, keyOf(newScore, bound[w]));
+                }
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Rebuild the route found by the last query
+     * @param target index of the target of the last query
+     * @return vertex indices on the shortest path from source to target (both included),
+     *         or an empty array if target was not reached
+     */
+    public int[] pathTo(int target){
+        if (stamp[target] != epoch || frontier.contains(target)){
+            return new int[0];
+        }
+        int length = 1;
+        for (int v = target; predecessor[v] != -1; v = predecessor[v]){
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = predecessor[v], i--){
+            path[i] = v;
+        }
+        return path;
+    }
+
+    /**
+     * @return number of vertices settled by the last query, a measure of its work
+     */
+    public int getNumOfSettled(){
+        return numOfSettled;
+    }
+
+    private static int keyOf(int score, int bound){
+        return (int) Math.min((long) score + bound, ShortestPathSearcher.MAX_LENGTH);
+    }
+
+    private int boundOf(int vertex, int target){
+        return (index == null) ? 0 : index.lowerBound(vertex, target);
+    }
+}
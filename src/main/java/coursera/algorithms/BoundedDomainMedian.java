@@ -0,0 +1,164 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for StreamMedianFinder.
+ *              This class answers the median of a stream whose numbers lie in a known domain [minValue, maxValue]
+ *              (e.g. Median.txt is a permutation of 1 ... 10000). Instead of heaps it keeps a counting array
+ *              over the domain and a cursor on the current median value, with the count of numbers below it.
+ *              One insert moves the median rank by at most one number, so the cursor moves at most to the
+ *              next non-empty value on either side. That value is found in a bitmap of the non-empty values
+ *              with summary levels on top (a bit of level l + 1 is set if the 64 bit word below it is not zero):
+ *              climb until a word has a set bit on the right side, then descend. A move takes O(log U) time,
+ *              at most 2 * 6 word operations for any int domain, however far apart the numbers are
+ *              (numbers only at the two ends of the domain are the worst case of a linear scan).
+ *              Insert and median are therefore O(log U), and O(1) when the neighboring values are non-empty.
+ *              Memory is fixed at about U ints (U = domain size) and does not grow with the stream.
+ **/
+public class BoundedDomainMedian implements MedianEngine {
+    private static final int WORD_SHIFT = 6; //64 bits per word of the bitmap levels
+
+    private final int minValue; //Smallest number of the domain
+    private final int domainSize; //U = maxValue - minValue + 1
+    private final int[] counts; //counts[i] is the number of times minValue + i was offered
+    private final long[][] nonEmpty; //Bit i of level 0 is set if counts[i] > 0, bit j of level l + 1 if word j of
+                                     //level l is not zero. The top level is a single word
+    private int median; //Index of the current median value in counts
+    private long below; //Number of numbers smaller than the median value
+    private long count; //Number of numbers offered so far
+
+    /**
+     * @param minValue smallest number of the domain
+     * @param maxValue largest number of the domain
+     */
+    public BoundedDomainMedian(int minValue, int maxValue){
+        long size = (long) maxValue - minValue + 1;
+        if (size < 1 || size >= Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Error: invalid domain [" + minValue + ", " + maxValue + "].");
+        }
+        this.minValue = minValue;
+        this.domainSize = (int) size;
+        counts = new int[domainSize];
+        int numOfLevels = 1;
+        for (long bits = domainSize; bits > 64; bits = (bits + 63) >>> WORD_SHIFT){
+            numOfLevels++;
+        }
+        nonEmpty = new long[numOfLevels][];
+        long bits = domainSize;
+        for (int l = 0; l < numOfLevels; l++){
+            nonEmpty[l] = new long[(int) ((bits + 63) >>> WORD_SHIFT)];
+            bits = nonEmpty[l].length;
+        }
+    }
+
+    @Override
+    public void offer(int number){
+        long offset = (long) number - minValue;
+        if (offset < 0 || offset >= domainSize){
+            throw new IllegalArgumentException("Error: " + number + " is outside of the domain.");
+        }
+        int idx = (int) offset;
+        if (counts[idx]++ == 0){
+            markNonEmpty(idx);
+        }
+        count++;
+        if (count == 1){
+            median = idx;
+            return;
+        }
+        if (idx < median){
+            below++;
+        }
+        long rank = (count + 1) / 2; //rank of the median, the median value covers ranks below+1 ... below+counts
+        while (rank > below + counts[median]){
+            below += counts[median];
+            median = nextNonEmpty(median + 1);
+        }
+        while (rank <= below){
+            median = previousNonEmpty(median - 1);
+            below -= counts[median];
+        }
+    }
+
+    /**
+     * @return the ((k+1)/2)th smallest number if k numbers were offered and k is odd, the (k/2)th if even
+     */
+    @Override
+    public int currentMedian(){
+        if (count == 0){
+            throw new IllegalStateException("Error: no number was offered.");
+        }
+        return median + minValue;
+    }
+
+    public long count(){
+        return count;
+    }
+
+    public int getDomainSize(){
+        return domainSize;
+    }
+
+    /**
+     * Set the bit of idx in every level (bits are only ever set, counts never decrease)
+     */
+    private void markNonEmpty(int idx){
+        for (long[] level : nonEmpty){
+            int word = idx >>> WORD_SHIFT;
+            long bit = 1L << idx; //shift distance is taken mod 64
+            if ((level[word] & bit) != 0){
+                return; //levels above are already set
+            }
+            level[word] |= bit;
+            idx = word;
+        }
+    }
+
+    /**
+     * Climb until a word has a set bit at or after the position, then descend to the first set bit below it
+     * @return smallest index >= idx with a non-zero count (one exists when the median moves right)
+     */
+    private int nextNonEmpty(int idx){
+        int level = 0;
+        while (true){
+            int word = idx >>> WORD_SHIFT;
+            if (word < nonEmpty[level].length){
+                long bits = nonEmpty[level][word] & (-1L << idx);
+                if (bits != 0){
+                    idx = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                    break;
+                }
+            }
+            idx = word + 1;
+            level++;
+        }
+        while (level > 0){
+            level--;
+            idx = (idx << WORD_SHIFT) + Long.numberOfTrailingZeros(nonEmpty[level][idx]);
+        }
+        return idx;
+    }
+
+    /**
+     * Climb until a word has a set bit at or before the position, then descend to the last set bit below it
+     * @return largest index <= idx with a non-zero count (one exists when the median moves left)
+     */
+    private int previousNonEmpty(int idx){
+        int level = 0;
+        while (true){
+            int word = idx >>> WORD_SHIFT;
+            long bits = nonEmpty[level][word] & (-1L >>> (63 - (idx & 63)));
+            if (bits != 0){
+                idx = (word << WORD_SHIFT) + 63 - Long.numberOfLeadingZeros(bits);
+                break;
+            }
+            idx = word - 1;
+            level++;
+        }
+        while (level > 0){
+            level--;
+            idx = (idx << WORD_SHIFT) + 63 - Long.numberOfLeadingZeros(nonEmpty[level][idx]);
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,121 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DialQueue and RadixHeap.
+ *              This class keeps items 0 to capacity - 1 in buckets, each bucket a doubly linked list threaded
+ *              through primitive arrays (next and previous item of every item), so an item is moved to
+ *              another bucket in O(1) without allocation. Subclasses decide which bucket a key goes to.
+ **/
+public abstract class BucketQueue implements VertexQueue {
+    private static final int NONE = -1;
+
+    protected final int[] keys; //keys[item] is the key of item
+    protected final int[] bucketOf; //Bucket of each item, NONE if not in queue
+    private final int[] next; //Next item in the same bucket, NONE at the end
+    private final int[] previous; //Previous item in the same bucket, NONE at the head
+    private final int[] head; //First item of each bucket, NONE if empty
+    protected int size;
+
+    /**
+     * @param capacity number of items, items are 0 to capacity - 1
+     * @param numOfBuckets number of buckets
+     */
+    protected BucketQueue(int capacity, int numOfBuckets){
+        keys = new int[capacity];
+        bucketOf = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        head = new int[numOfBuckets];
+        Arrays.fill(bucketOf, NONE);
+        Arrays.fill(head, NONE);
+    }
+
+    @Override
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    @Override
+    public int size(){
+        return size;
+    }
+
+    @Override
+    public boolean contains(int item){
+        return bucketOf[item] != NONE;
+    }
+
+    @Override
+    public int keyOf(int item){
+        return keys[item];
+    }
+
+    /**
+     * @return first item of bucket, or -1 if it is empty
+     */
+    protected int first(int bucket){
+        return head[bucket];
+    }
+
+    /**
+     * @return item after item in its bucket, or -1 if it is the last one
+     */
+    protected int next(int item){
+        return next[item];
+    }
+
+    /**
+     * Put an item that is in no bucket at the head of bucket
+     */
+    protected void link(int item, int bucket){
+        int oldHead = head[bucket];
+        next[item] = oldHead;
+        previous[item] = NONE;
+        if (oldHead != NONE){
+            previous[oldHead] = item;
+        }
+        head[bucket] = item;
+        bucketOf[item] = bucket;
+    }
+
+    /**
+     * Take an item out of its bucket
+     */
+    protected void unlink(int item){
+        int before = previous[item];
+        int after = next[item];
+        if (before == NONE){
+            head[bucketOf[item]] = after;
+        }
+        else{
+            next[before] = after;
+        }
+        if (after != NONE){
+            previous[after] = before;
+        }
+        bucketOf[item] = NONE;
+    }
+
+    /**
+     * Remove all items of bucket
+     * @return number of items removed
+     */
+    protected int clearBucket(int bucket){
+        int count = 0;
+        for (int item = head[bucket]; item != NONE; item = next[item]){
+            bucketOf[item] = NONE;
+            count++;
+        }
+        head[bucket] = NONE;
+        return count;
+    }
+
+    protected void checkAbsent(int item){
+        if (bucketOf[item] != NONE){
+            throw new IllegalArgumentException("Error: item " + item + " is already in queue.");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder and DijkstraShortestPathFinder.
+ *              This class is an immutable directed graph in compressed sparse row (CSR) form.
+ *              Vertex with ID = i is stored at index i - 1. The outgoing edges of index v are
+ *              targets[offsets[v]] ... targets[offsets[v+1] - 1], and weights (if any) are stored
+ *              in the same positions of the weights array.
+ *              Only primitive arrays are used, so a graph with m edges takes about 4 * (n + m) bytes
+ *              (plus 4 * m bytes for weights).
+ **/
+public class CompactGraph {
+    private final int numOfVertices;
+    private final int[] offsets; //Size n + 1. Edges of vertex index v are in range [offsets[v], offsets[v+1])
+    private final int[] targets; //Head vertex index (not ID) of each edge
+    private final int[] weights; //Length of each edge. Null for unweighted graph
+    private final int minWeight; //Smallest edge length, 0 for unweighted graph or graph without edges
+    private final int maxWeight; //Largest edge length, 0 for unweighted graph or graph without edges
+
+    /**
+     * Construct the graph directly from CSR arrays. Arrays are used as is (not copied).
+     * @param numOfVertices number of vertices in graph
+     * @param offsets edge offsets of each vertex, size numOfVertices + 1
+     * @param targets head vertex index of each edge
+     * @param weights length of each edge, or null if the graph is unweighted
+     */
+    public CompactGraph(int numOfVertices, int[] offsets, int[] targets, int[] weights){
+        if (offsets.length != numOfVertices + 1){
+            throw new IllegalArgumentException("Error: offsets array must have numOfVertices + 1 entries.");
+        }
+        if (weights != null && weights.length != targets.length){
+            throw new IllegalArgumentException("Error: weights array must have one entry per edge.");
+        }
+        this.numOfVertices = numOfVertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        int min = 0;
+        int max = 0;
+        if (weights != null && weights.length > 0){ //range of lengths, so searches can pick a queue for it
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+            for (int weight : weights){
+                min = Math.min(min, weight);
+                max = Math.max(max, weight);
+            }
+        }
+        minWeight = min;
+        maxWeight = max;
+    }
+
+    /**
+     * Build the graph from an edge list in two passes (counting pass, then placing pass).
+     * Edges keep their input order within each adjacency list.
+     * @param numOfVertices number of vertices, vertex indices must be in [0, numOfVertices)
+     * @param tails tail vertex index of each edge
+     * @param heads head vertex index of each edge
+     * @param lengths length of each edge, or null if the graph is unweighted
+     * @param numOfEdges number of edges to read from the arrays
+     * @return the graph in CSR form
+     */
+    public static CompactGraph fromEdges(int numOfVertices, int[] tails, int[] heads, int[] lengths, int numOfEdges){
+        int[] offsets = new int[numOfVertices + 1];
+        for (int i = 0; i < numOfEdges; i++){ //First pass: count out degree of each vertex
+            offsets[tails[i] + 1]++;
+        }
+        for (int v = 0; v < numOfVertices; v++){
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[numOfEdges];
+        int[] weights = (lengths == null) ? null : new int[numOfEdges];
+        int[] next = Arrays.copyOf(offsets, numOfVertices); //Next free slot of each vertex
+        for (int i = 0; i < numOfEdges; i++){ //Second pass: place each edge in its slot
+            int slot = next[tails[i]]++;
+            targets[slot] = heads[i];
+            if (weights != null){
+                weights[slot] = lengths[i];
+            }
+        }
+        return new CompactGraph(numOfVertices, offsets, targets, weights);
+    }
+
+    /**
+     * Build the reversed graph (every edge u->v becomes v->u) directly from this graph,
+     * without going through an edge list.
+     * @return reversed graph, weights are carried over if present
+     */
+    public CompactGraph reverse(){
+        int numOfEdges = targets.length;
+        int[] reversedOffsets = new int[numOfVertices + 1];
+        for (int e = 0; e < numOfEdges; e++){
+            reversedOffsets[targets[e] + 1]++;
+        }
+        for (int v = 0; v < numOfVertices; v++){
+            reversedOffsets[v + 1] += reversedOffsets[v];
+        }
+        int[] reversedTargets = new int[numOfEdges];
+        int[] reversedWeights = (weights == null) ? null : new int[numOfEdges];
+        int[] next = Arrays.copyOf(reversedOffsets, numOfVertices);
+        for (int v = 0; v < numOfVertices; v++){
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                int slot = next[targets[e]]++;
+                reversedTargets[slot] = v;
+                if (reversedWeights != null){
+                    reversedWeights[slot] = weights[e];
+                }
+            }
+        }
+        return new CompactGraph(numOfVertices, reversedOffsets, reversedTargets, reversedWeights);
+    }
+
+    public int getNumOfVertices() {
+        return numOfVertices;
+    }
+
+    public int getNumOfEdges() {
+        return targets.length;
+    }
+
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * Return the internal offsets array. Callers must not modify it.
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Return the internal targets array. Callers must not modify it.
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Return the internal weights array (null for unweighted graph). Callers must not modify it.
+     */
+    public int[] getWeights() {
+        return weights;
+    }
+
+    public int getMinWeight() {
+        return minWeight;
+    }
+
+    public int getMaxWeight() {
+        return maxWeight;
+    }
+
+    public int outDegree(int vertex){
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * Print the adjacency list of the graph using vertex ID (index + 1)
+     * @param title the title line printed before the graph
+     */
+    public void printGraph(String title){
+        System.out.println(title);
+        for (int v = 0; v < numOfVertices; v++){
+            StringBuilder line = new StringBuilder("Vertex " + (v + 1) + " has outgoing vertices: [");
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                if (e > offsets[v]){
+                    line.append(", ");
+                }
+                line.append(targets[e] + 1);
+                if (weights != null){
+                    line.append(",").append(weights[e]);
+                }
+            }
+            System.out.println(line.append("]"));
+        }
+        System.out.println("Total number of vertices in graph is: " + numOfVertices);
+    }
+}
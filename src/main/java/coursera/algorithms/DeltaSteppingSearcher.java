@@ -0,0 +1,340 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DijkstraShortestPathFinder.
+ *              This class computes single source shortest paths on a ForkJoinPool with delta-stepping
+ *              (Meyer and Sanders). Tentative distances are kept in buckets of width delta, bucket i holding
+ *              the vertices with distance in [i * delta, (i + 1) * delta). The smallest non-empty bucket is
+ *              emptied in phases:
+ *              1. Light phases: the out-edges with length <= delta of all vertices in the bucket are relaxed in
+ *                 parallel. A relaxation can put a vertex back into the same bucket, so this repeats until the
+ *                 bucket stays empty. Then the distances of all vertices removed from the bucket are final.
+ *              2. Heavy phase: the out-edges with length > delta of those vertices are relaxed once, in parallel.
+ *                 They can only reach later buckets.
+ *              Distances are lowered with compare-and-set, so the result is exactly the result of Dijkstra's
+ *              algorithm, whatever the thread timing. A small delta does little extra work but needs many
+ *              phases, a large delta has more parallel work per phase but relaxes vertices more than once.
+ *              The edges of each vertex are copied once in the constructor, light edges first, so a phase
+ *              scans only the edges it needs. Buckets are a circular array: pending distances are at most
+ *              the largest edge length past the current bucket, so ceil(maxWeight / delta) + 1 buckets hold them.
+ *              The array is capped at MAX_BUCKETS (a small delta with long edges would need one bucket per
+ *              length unit). Then a slot can also hold vertices of a later lap, which a scan leaves in place.
+ *              Relaxations are run in parallel, and the improved vertices are sorted into buckets by the
+ *              calling thread. A searcher runs one search at a time.
+ *              All vertices are vertex index (ID - 1).
+ **/
+public class DeltaSteppingSearcher {
+    private static final int CHUNK_SIZE = 256; //Bucket vertices relaxed by one task
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int MAX_BUCKETS = 1 << 16; //Largest circular bucket array
+
+    private final int numOfVertices;
+    private final int delta;
+    private final ForkJoinPool pool;
+    private final int[] offsets; //Same offsets as the graph
+    private final int[] lightEnd; //Edges of v in [offsets[v], lightEnd[v]) are light, [lightEnd[v], offsets[v+1]) heavy
+    private final int[] targets; //Edge heads, light edges of each vertex first
+    private final int[] weights; //Edge lengths in the same order as targets
+    private final AtomicIntegerArray distance; //Tentative distance of each vertex, UNREACHED if not reached
+    private final int[] stamp; //Phase in which a vertex was last queued or settled, to drop duplicates
+    private final IntList[] buckets; //Circular bucket array, bucket i is buckets[i % buckets.length]
+    private int phase;
+
+    /**
+     * @param graph the graph with edge lengths as weights, lengths must not be negative
+     * @param delta bucket width, at least 1
+     * @param pool the pool that runs the relaxations
+     */
+    public DeltaSteppingSearcher(CompactGraph graph, int delta, ForkJoinPool pool){
+        if (!graph.hasWeights()){
+            throw new IllegalArgumentException("Error: shortest path search needs a weighted graph.");
+        }
+        if (graph.getMinWeight() < 0){
+            throw new IllegalArgumentException("Error: edge lengths must not be negative.");
+        }
+        if (delta < 1){
+            throw new IllegalArgumentException("Error: delta must be at least 1.");
+        }
+        this.numOfVertices = graph.getNumOfVertices();
+        this.delta = delta;
+        this.pool = pool;
+        offsets = graph.getOffsets();
+        int[] graphTargets = graph.getTargets();
+        int[] graphWeights = graph.getWeights();
+        lightEnd = new int[numOfVertices];
+        targets = new int[graphTargets.length];
+        weights = new int[graphTargets.length];
+        for (int v = 0; v < numOfVertices; v++){
+            int light = offsets[v];
+            int heavy = offsets[v + 1];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                int slot = (graphWeights[e] <= delta) ? light++ : --heavy;
+                targets[slot] = graphTargets[e];
+                weights[slot] = graphWeights[e];
+            }
+            lightEnd[v] = light;
+        }
+        distance = new AtomicIntegerArray(numOfVertices);
+        stamp = new int[numOfVertices];
+        long span = ((long) graph.getMaxWeight() + delta - 1) / delta + 1; //Buckets from current to the last pending
+        buckets = new IntList[(int) Math.min(MAX_BUCKETS, span)];
+        for (int i = 0; i < buckets.length; i++){
+            buckets[i] = new IntList();
+        }
+    }
+
+    /**
+     * Bucket width that usually works well: the largest edge length divided by the average out degree,
+     * so that a light phase relaxes about one bucket worth of edges per vertex
+     * @param graph the graph with edge lengths as weights
+     * @return delta, at least 1
+     */
+    public static int defaultDelta(CompactGraph graph){
+        long averageDegree = Math.max(1, graph.getNumOfEdges() / Math.max(1, (long) graph.getNumOfVertices()));
+        return (int) Math.max(1, graph.getMaxWeight() / averageDegree);
+    }
+
+    public int getDelta(){
+        return delta;
+    }
+
+    public ForkJoinPool getPool(){
+        return pool;
+    }
+
+    /**
+     * Compute the shortest path from source to every vertex reachable from it
+     * @param source index of source vertex
+     */
+    public void search(int source){
+        for (int v = 0; v < numOfVertices; v++){
+            distance.set(v, UNREACHED);
+        }
+        for (IntList bucket : buckets){
+            bucket.size = 0;
+        }
+        distance.set(source, 0);
+        buckets[0].add(source);
+        IntList frontier = new IntList();
+        IntList settled = new IntList(); //Vertices removed from the current bucket, for the heavy phase
+        int numOfPending = 1; //Vertices in all buckets, duplicates and stale entries included
+
+        for (long current = 0; numOfPending > 0; current++){
+            IntList bucket = buckets[(int) (current % buckets.length)];
+            if (bucket.size == 0){continue;}
+            settled.size = 0;
+            int settledPhase = nextPhase();
+            while (true){
+                //move the entries of the current bucket to the frontier, relaxations may refill it
+                frontier.size = 0;
+                int queuedPhase = nextPhase();
+                int kept = 0;
+                for (int i = 0; i < bucket.size; i++){
+                    int v = bucket.values[i];
+                    long b = distance.get(v) / delta;
+                    if (b > current){ //a later lap of a capped bucket array
+                        bucket.values[kept++] = v;
+                        continue;
+                    }
+                    numOfPending--;
+                    //skip entries whose vertex moved to an earlier bucket or is already queued
+                    if (b != current || stamp[v] == queuedPhase){continue;}
+                    stamp[v] = queuedPhase;
+                    frontier.add(v);
+                }
+                bucket.size = kept;
+                if (frontier.size == 0){break;}
+                for (int i = 0; i < frontier.size; i++){
+                    settled.add(frontier.values[i]);
+                }
+                numOfPending += distribute(relax(frontier, true));
+            }
+            //distances of the settled vertices are final, relax their heavy edges once
+            frontier.size = 0;
+            for (int i = 0; i < settled.size; i++){
+                int v = settled.values[i];
+                if (stamp[v] != settledPhase){ //a vertex can be removed from the bucket more than once
+                    stamp[v] = settledPhase;
+                    frontier.add(v);
+                }
+            }
+            numOfPending += distribute(relax(frontier, false));
+        }
+    }
+
+    /**
+     * @param vertex index of vertex
+     * @return shortest path length found by the last search, Integer.MAX_VALUE if not reached
+     */
+    public int distanceTo(int vertex){
+        return distance.get(vertex);
+    }
+
+    /**
+     * Copy the distances of the last search into an array
+     * @param output array of size n, output[v] is the distance of vertex index v
+     * @param noPathLength value written for vertices that were not reached
+     */
+    public void copyDistances(int[] output, int noPathLength){
+        for (int v = 0; v < output.length; v++){
+            int d = distance.get(v);
+            output[v] = (d == UNREACHED) ? noPathLength : d;
+        }
+    }
+
+    /**
+     * Relax the light or heavy edges of the vertices, in parallel if there are many
+     * @return the vertices whose distance was lowered (may contain duplicates)
+     */
+    private IntList relax(IntList vertices, boolean light){
+        RelaxTask task = new RelaxTask(vertices.values, 0, vertices.size, light);
+        return (vertices.size <= CHUNK_SIZE) ? task.compute() : pool.invoke(task);
+    }
+
+    /**
+     * Put each improved vertex into the bucket of its new distance
+     * @return number of vertices added to buckets
+     */
+    private int distribute(IntList improved){
+        for (int i = 0; i < improved.size; i++){
+            int v = improved.values[i];
+            buckets[(distance.get(v) / delta) % buckets.length].add(v);
+        }
+        return improved.size;
+    }
+
+    private int nextPhase(){
+        phase = EpochStamps.next(stamp, phase);
+        return phase;
+    }
+
+    /**
+     * Fork/join task that relaxes the light or heavy edges of vertices[from] ... vertices[to - 1]
+     * and returns the vertices whose distance it lowered.
+     */
+    private class RelaxTask extends RecursiveTask<IntList> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] vertices;
+        private final int from;
+        private final int to;
+        private final boolean light;
+
+        RelaxTask(int[] vertices, int from, int to, boolean light){
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+        }
+
+        @Override
+        protected IntList compute() {
+            if (to - from > CHUNK_SIZE){
+                int mid = (from + to) >>> 1;
+                RelaxTask right = new RelaxTask(vertices, mid, to, light);
+                right.fork();
+                IntList improved = new RelaxTask(vertices, from, mid, light).compute();
+                improved.addAll(right.join());
+                return improved;
+            }
+            IntList improved = new IntList();
+            for (int i = from; i < to; i++){
+                int v = vertices[i];
+                int score = distance.get(v);
+                int first = light ? offsets[v] : lightEnd[v];
+                int last = light ? lightEnd[v] : offsets[v + 1];
+                for (int e = first; e < last; e++){
+                    int w = targets[e];
+                    int newScore = ShortestPathSearcher.addLength(score, weights[e]);
+                    int old = distance.get(w);
+                    while (newScore < old){ //lower distance[w] to newScore unless another thread went lower
+                        if (distance.compareAndSet(w, old, newScore)){
+                            improved.add(w);
+                            break;
+                        }
+                        old = distance.get(w);
+                    }
+                }
+            }
+            return improved;
+        }
+    }
+
+    /**
+     * Growable int array
+     */
+    private static final class IntList {
+        private int[] values = new int[0]; //Allocated on first add, most buckets of a search stay small
+        private int size;
+
+        void add(int value){
+            if (size == values.length){
+                values = Arrays.copyOf(values, Math.max(16, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other){
+            if (size + other.size > values.length){
+                values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+
+    /**
+     * Compare delta-stepping with the sequential Dijkstra search on a graph of data/ (or the file given as
+     * first argument), for each thread count given after it (default: 1, 2, 4, 8, 16, 32)
+     */
+    public static void main(String[] args) throws Exception {
+        String inputFileName = (args.length > 0) ? args[0] : "data/dijkstraData.txt";
+        int[] threadCounts = {1, 2, 4, 8, 16, 32};
+        if (args.length > 1){
+            threadCounts = Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray();
+        }
+        CompactGraph graph = new DijkstraShortestPathFinder(inputFileName).getGraph();
+        int n = graph.getNumOfVertices();
+        int[] sources = new java.util.Random(42).ints(8, 0, n).toArray();
+        int[] expected = new int[n];
+        int[] actual = new int[n];
+
+        ShortestPathSearcher sequential = new ShortestPathSearcher(graph);
+        long start = System.nanoTime();
+        for (int source : sources){
+            sequential.search(source);
+        }
+        System.out.println("Dijkstra (" + sequential.getQueueType() + "), ms per search: "
+                + (System.nanoTime() - start) / 1e6 / sources.length);
+
+        int delta = defaultDelta(graph);
+        for (int threads : threadCounts){
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            DeltaSteppingSearcher searcher = new DeltaSteppingSearcher(graph, delta, pool);
+            searcher.search(sources[0]); //warm up
+            start = System.nanoTime();
+            for (int source : sources){
+                searcher.search(source);
+            }
+            long elapsed = System.nanoTime() - start;
+            for (int source : sources){
+                sequential.search(source);
+                sequential.copyDistances(expected, -1);
+                searcher.search(source);
+                searcher.copyDistances(actual, -1);
+                if (!Arrays.equals(expected, actual)){
+                    throw new IllegalStateException("Error: delta-stepping distances differ from Dijkstra.");
+                }
+            }
+            pool.shutdown();
+            System.out.println("Delta-stepping, delta " + delta + ", " + threads + " threads, ms per search: "
+                    + elapsed / 1e6 / sources.length);
+        }
+    }
+}
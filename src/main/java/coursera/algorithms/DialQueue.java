@@ -0,0 +1,102 @@
+package coursera.algorithms;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for ShortestPathSearcher.
+ *              This class is Dial's bucket queue for monotone use with keys that are at most maxSpread above the
+ *              last extracted key, as in Dijkstra's algorithm with edge lengths 0 ... maxSpread. There is one
+ *              bucket per key value, used circularly (key k is in bucket k mod (maxSpread + 1)), and a cursor
+ *              at the smallest possible key. Insert and decrease-key are O(1), and extractMin moves the cursor
+ *              over empty buckets, so a whole search costs O(n + m + largest distance) with no comparisons.
+ **/
+public class DialQueue extends BucketQueue {
+    private final int numOfBuckets; //maxSpread + 1
+    private int cursor; //Smallest key that can be in the queue, the key of bucket cursorBucket
+    private int cursorBucket; //cursor mod numOfBuckets
+    private boolean started; //False until the first insert after construction or clear
+
+    /**
+     * @param capacity number of items, items are 0 to capacity - 1
+     * @param maxSpread largest difference between a key and the last extracted key (the largest edge length)
+     */
+    public DialQueue(int capacity, int maxSpread){
+        super(capacity, maxSpread + 1);
+        if (maxSpread < 0 || maxSpread == Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Error: spread of keys must be in 0 ... Integer.MAX_VALUE - 1.");
+        }
+        numOfBuckets = maxSpread + 1;
+    }
+
+    @Override
+    public void insert(int item, int key){
+        checkAbsent(item);
+        if (!started){ //any key can start the queue
+            cursor = key;
+            cursorBucket = key % numOfBuckets;
+            started = true;
+        }
+        else{
+            checkRange(key);
+        }
+        keys[item] = key;
+        link(item, bucketOf(key));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int item, int key){
+        if (key > keys[item]){
+            throw new IllegalArgumentException("Error: new key is larger than current key.");
+        }
+        checkRange(key);
+        unlink(item);
+        keys[item] = key;
+        link(item, bucketOf(key));
+    }
+
+    @Override
+    public int peekMin(){
+        if (size == 0){
+            throw new NoSuchElementException("Error: queue is empty.");
+        }
+        while (first(cursorBucket) == -1){ //no key is below cursor, so nothing is skipped
+            cursor++;
+            cursorBucket = (cursorBucket + 1 == numOfBuckets) ? 0 : cursorBucket + 1;
+        }
+        return first(cursorBucket);
+    }
+
+    @Override
+    public int extractMin(){
+        int min = peekMin();
+        unlink(min);
+        size--;
+        return min;
+    }
+
+    /**
+     * Remove all items. Only the buckets from the cursor up to the last item are visited.
+     */
+    @Override
+    public void clear(){
+        for (int bucket = cursorBucket; size > 0; bucket = (bucket + 1 == numOfBuckets) ? 0 : bucket + 1){
+            size -= clearBucket(bucket);
+        }
+        started = false;
+    }
+
+    private int bucketOf(int key){
+        int offset = key - cursor; //0 ... numOfBuckets - 1 after checkRange
+        int bucket = cursorBucket + offset;
+        return (bucket >= numOfBuckets) ? bucket - numOfBuckets : bucket;
+    }
+
+    private void checkRange(int key){
+        if (key < cursor || key - cursor >= numOfBuckets){
+            throw new IllegalArgumentException("Error: key " + key + " is outside of the queue range " + cursor
+                    + " ... " + (cursor + numOfBuckets - 1) + ".");
+        }
+    }
+}
@@ -0,0 +1,558 @@
+package coursera.algorithms;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures
+ * Description: Week 2 Programming Assignment.
+ *              This class implements Dijkstra algorithm to find shortest path in the graph
+ *              The graph is read-only after construction. dijkstraSearch stores its result in this object
+ *              and must not be called from several threads at once, while multiSourceSearch runs many
+ *              searches in parallel, each with its own ShortestPathSearcher. cachedSearch can be called from
+ *              any number of threads once a DistanceCache is set.
+ * @author : Zitao He
+ * @date : 2021-01-24 12:05
+ **/
+public class DijkstraShortestPathFinder {
+    private int[] shortestPath; //Integer array to store shortest path for each node. Array index is node ID - 1
+    private CompactGraph vertices; //Graph representation in CSR form, with edge lengths as weights
+    private ShortestPathSearcher searcher; //Scratch state of single source search used by dijkstraSearch
+    private ShortestPathSearcher reversedSearcher; //Search on reversed graph for bidirectional queries.
+                                                   //Created on first use
+    private LandmarkIndex landmarks; //ALT preprocessing for altDistance, null until built or loaded
+    private AltSearcher altSearcher; //Scratch state of altDistance and altPath
+    private DistanceCache distanceCache; //Results of cachedSearch, null until setDistanceCache
+    private final ThreadLocal<ShortestPathSearcher> cacheSearchers = //Searcher of each thread that misses the cache
+            ThreadLocal.withInitial(() -> new ShortestPathSearcher(vertices));
+    private DeltaSteppingSearcher deltaSearcher; //Parallel search of deltaSteppingSearch. Created on first use
+    private final int noPathLength = 1000000; //represents that there is no path between given vertex and source vertex
+    private VertexIdDictionary ids; //Maps external IDs of the file to vertex IDs 1 ... n, null if file IDs are used
+
+    /**
+     * Construct the graph from .txt file.
+     * The file contains an adjacency list representation of an undirected weighted graph with 200 vertices
+     * labeled 1 to 200.
+     * Each row consists of the node tuples that are adjacent to that particular vertex
+     * along with the length of that edge.
+     * For example, the 6th row has 6 as the first entry indicating that this row corresponds
+     * to the vertex labeled 6. The next entry of this row "141,8200" indicates that
+     * there is an edge between vertex 6 and vertex 141 that has length 8200.
+     * The rest of the pairs of this row indicate the other vertices adjacent to vertex 6
+     * and the lengths of the corresponding edges.
+     * @param inputFileName the file name from which to construct graph
+     * @throws FileNotFoundException
+     * @throws IllegalArgumentException when an edge length is negative
+     */
+    public DijkstraShortestPathFinder(String inputFileName) throws FileNotFoundException{
+        this(inputFileName, null);
+    }
+
+    /**
+     * Construct the graph from .txt file whose vertex IDs may be any (sparse) 64-bit values.
+     * IDs are mapped to vertex IDs 1 ... n through the dictionary, which translates results back.
+     * @param inputFileName the file name from which to construct graph
+     * @param ids dictionary for the file's vertex IDs (may already hold IDs), or null if file IDs are 1 ... n
+     * @throws FileNotFoundException
+     * @throws IllegalArgumentException when an edge length is negative
+     */
+    public DijkstraShortestPathFinder(String inputFileName, VertexIdDictionary ids) throws FileNotFoundException{
+        EdgeListBuilder edgeList = new EdgeListBuilder(true);
+        this.ids = ids;
+        try (MappedInputReader reader = new MappedInputReader(inputFileName)){
+            //add edges and distances to edges
+            while (reader.hasNext()){
+                int startID = (ids == null) ? reader.nextInt() : ids.idOf(reader.nextLong()); //first integer represents node ID
+                edgeList.addVertex(startID);
+                while (reader.hasNextOnLine()){ //Iterate over "endID,length" tuples and construct adjacency list
+                    int endID = (ids == null) ? reader.nextInt() : ids.idOf(reader.nextLong());
+                    int length = reader.nextInt();
+                    edgeList.addEdge(startID, endID, length);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+        vertices = edgeList.build();
+        shortestPath = new int[vertices.getNumOfVertices()];//initialize array that stores shortest path
+        searcher = new ShortestPathSearcher(vertices);
+    }
+
+    /**
+     * Construct the finder from graphs that are already built
+     * @param vertices the graph with edge lengths as weights
+     * @param reversed the reversed graph, or null to build it when a bidirectional query needs it
+     */
+    private DijkstraShortestPathFinder(CompactGraph vertices, CompactGraph reversed){
+        if (!vertices.hasWeights()){
+            throw new IllegalArgumentException("Error: graph has no edge lengths.");
+        }
+        this.vertices = vertices;
+        shortestPath = new int[vertices.getNumOfVertices()];
+        searcher = new ShortestPathSearcher(vertices);
+        if (reversed != null){
+            reversedSearcher = new ShortestPathSearcher(reversed);
+        }
+    }
+
+    /**
+     * Load the graph from a binary snapshot written by GraphSnapshot, without parsing a text file
+     * @param snapshotFile the snapshot file name
+     * @param sourceFile text file the snapshot was made from (rejected if it changed since), or null
+     * @return the finder
+     * @throws IOException when the snapshot is not found, invalid or stale
+     */
+    public static DijkstraShortestPathFinder fromSnapshot(String snapshotFile, String sourceFile) throws IOException {
+        GraphSnapshot snapshot = GraphSnapshot.load(snapshotFile, sourceFile, true);
+        return new DijkstraShortestPathFinder(snapshot.getGraph(), snapshot.getReversed());
+    }
+
+    public CompactGraph getGraph(){
+        return vertices;
+    }
+
+    /**
+     * @return dictionary of external vertex IDs, or null if the file's IDs are used directly
+     */
+    public VertexIdDictionary getVertexIds(){
+        return ids;
+    }
+
+    /**
+     * Translate a vertex ID of the input file to the vertex ID (1 ... n) used by the queries
+     * @param externalId vertex ID as written in the input file
+     * @return vertex ID, the same value if the file's IDs are used directly
+     * @throws IllegalArgumentException when the vertex is not in the graph
+     */
+    public int vertexIdOf(long externalId){
+        if (ids != null){
+            return ids.denseId(externalId);
+        }
+        if (externalId < 1 || externalId > vertices.getNumOfVertices()){
+            throw new IllegalArgumentException("Error: vertex " + externalId + " is not in the graph.");
+        }
+        return (int) externalId;
+    }
+
+    /**
+     * @param vertexIdList vertex IDs (1 ... n), e.g. a path
+     * @return vertex IDs as written in the input file, in the same order
+     */
+    public long[] externalIdsOf(int[] vertexIdList){
+        if (ids != null){
+            return ids.externalIds(vertexIdList);
+        }
+        long[] result = new long[vertexIdList.length];
+        for (int i = 0; i < vertexIdList.length; i++){
+            result[i] = vertexIdList[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return kind of queue the searches use, chosen from the range of edge lengths when the graph was loaded
+     */
+    public ShortestPathSearcher.QueueType getQueueType(){
+        return searcher.getQueueType();
+    }
+
+    /**
+     * Compute the shortest path from start vertex to every vertex, using a queue with decrease-key.
+     * Each vertex is extracted from the queue once and each edge is relaxed once, so it runs in
+     * O((n + m) log n) time with a binary heap, and faster with the bucket queues that are used by
+     * default (see ShortestPathSearcher). Vertices that can not be reached from start vertex get noPathLength.
+     * @param startID ID of the source vertex
+     */
+    public void dijkstraSearch(int startID){
+        searcher.search(startID - 1);
+        searcher.copyDistances(shortestPath, noPathLength);
+    }
+
+    /**
+     * Compute the shortest path from start vertex to every vertex like dijkstraSearch, but with the parallel
+     * delta-stepping algorithm on the common ForkJoinPool. The result is the same as that of dijkstraSearch.
+     * @param startID ID of the source vertex
+     */
+    public void deltaSteppingSearch(int startID){
+        deltaSteppingSearch(startID, 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compute the shortest path from start vertex to every vertex with delta-stepping, with a given bucket width
+     * @param startID ID of the source vertex
+     * @param delta bucket width, or 0 for DeltaSteppingSearcher.defaultDelta. Light edges (length <= delta)
+     *              are relaxed in repeated phases, heavy edges once per bucket
+     * @param pool the pool that runs the relaxations
+     */
+    public void deltaSteppingSearch(int startID, int delta, ForkJoinPool pool){
+        if (delta == 0){
+            delta = DeltaSteppingSearcher.defaultDelta(vertices);
+        }
+        //the searcher copies the edges split by delta, so it is kept while delta and pool stay the same
+        if (deltaSearcher == null || deltaSearcher.getDelta() != delta || deltaSearcher.getPool() != pool){
+            deltaSearcher = new DeltaSteppingSearcher(vertices, delta, pool);
+        }
+        deltaSearcher.search(startID - 1);
+        deltaSearcher.copyDistances(shortestPath, noPathLength);
+    }
+
+    /**
+     * Keep the results of cachedSearch in a cache of at most maxBytes (least recently used sources are evicted).
+     * Replaces the cache set before, if any.
+     * @param maxBytes largest total size of the cached distance arrays, each takes about 4 * n bytes
+     */
+    public void setDistanceCache(long maxBytes){
+        distanceCache = new DistanceCache(maxBytes, this::computeDistances);
+    }
+
+    /**
+     * @return the cache of cachedSearch with its hit, miss and eviction counters, or null if it is not set
+     */
+    public DistanceCache getDistanceCache(){
+        return distanceCache;
+    }
+
+    /**
+     * Compute the shortest path from start vertex to every vertex, or return the cached result of an earlier call.
+     * Thread-safe; concurrent calls for the same uncached vertex compute it once.
+     * setDistanceCache must be called first.
+     * @param startID ID of the source vertex
+     * @return shortest path of each vertex (index = node ID - 1), noPathLength if not reachable. The array is
+     *         shared with other callers and must not be modified.
+     */
+    public int[] cachedSearch(int startID){
+        if (distanceCache == null){
+            throw new IllegalStateException("Error: distance cache is not set, call setDistanceCache first.");
+        }
+        return distanceCache.get(startID);
+    }
+
+    /**
+     * Run a search for the cache on a searcher owned by the calling thread
+     */
+    private int[] computeDistances(int startID){
+        ShortestPathSearcher worker = cacheSearchers.get();
+        worker.search(startID - 1);
+        int[] distances = new int[vertices.getNumOfVertices()];
+        worker.copyDistances(distances, noPathLength);
+        return distances;
+    }
+
+    /**
+     * Compute the shortest path length from start vertex to end vertex only.
+     * The search stops as soon as the end vertex is settled.
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     */
+    public int distance(int startID, int endID){
+        int length = searcher.searchTo(startID - 1, endID - 1);
+        return (length == Integer.MAX_VALUE) ? noPathLength : length;
+    }
+
+    /**
+     * distance(startID, endID) for vertex IDs as written in the input file
+     * @param startExternalId file ID of the source vertex
+     * @param endExternalId file ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     * @throws IllegalArgumentException when a vertex is not in the graph
+     */
+    public int distance(long startExternalId, long endExternalId){
+        return distance(vertexIdOf(startExternalId), vertexIdOf(endExternalId));
+    }
+
+    /**
+     * Compute the shortest path from start vertex to end vertex only, with early termination
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return vertex IDs on the path from start to end (both included), or an empty array if there is no path
+     */
+    public int[] path(int startID, int endID){
+        if (searcher.searchTo(startID - 1, endID - 1) == Integer.MAX_VALUE){
+            return new int[0];
+        }
+        int[] path = searcher.pathTo(endID - 1);
+        for (int i = 0; i < path.length; i++){
+            path[i]++; //index to ID
+        }
+        return path;
+    }
+
+    /**
+     * path(startID, endID) for vertex IDs as written in the input file
+     * @param startExternalId file ID of the source vertex
+     * @param endExternalId file ID of the target vertex
+     * @return file IDs on the path from start to end (both included), or an empty array if there is no path
+     * @throws IllegalArgumentException when a vertex is not in the graph
+     */
+    public long[] path(long startExternalId, long endExternalId){
+        return externalIdsOf(path(vertexIdOf(startExternalId), vertexIdOf(endExternalId)));
+    }
+
+    /**
+     * Compute the shortest path length from start vertex to end vertex by searching forward from start and
+     * backward from end at the same time. Usually settles far fewer vertices than distance(startID, endID).
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     */
+    public int bidirectionalDistance(int startID, int endID){
+        int meet = bidirectionalSearch(startID, endID);
+        if (meet == -1){
+            return noPathLength;
+        }
+        return searcher.distanceTo(meet) + reversedSearcher.distanceTo(meet);
+    }
+
+    /**
+     * bidirectionalDistance(startID, endID) for vertex IDs as written in the input file
+     * @param startExternalId file ID of the source vertex
+     * @param endExternalId file ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     * @throws IllegalArgumentException when a vertex is not in the graph
+     */
+    public int bidirectionalDistance(long startExternalId, long endExternalId){
+        return bidirectionalDistance(vertexIdOf(startExternalId), vertexIdOf(endExternalId));
+    }
+
+    /**
+     * Compute the shortest path from start vertex to end vertex with bidirectional search
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return vertex IDs on the path from start to end (both included), or an empty array if there is no path
+     */
+    public int[] bidirectionalPath(int startID, int endID){
+        int meet = bidirectionalSearch(startID, endID);
+        if (meet == -1){
+            return new int[0];
+        }
+        int[] firstHalf = searcher.pathTo(meet); //start ... meet
+        int[] secondHalf = reversedSearcher.pathTo(meet); //end ... meet, as it was found on reversed graph
+        int[] path = new int[firstHalf.length + secondHalf.length - 1];
+        for (int i = 0; i < firstHalf.length; i++){
+            path[i] = firstHalf[i] + 1;
+        }
+        for (int i = 0; i < secondHalf.length - 1; i++){
+            path[path.length - 1 - i] = secondHalf[i] + 1;
+        }
+        return path;
+    }
+
+    /**
+     * Preprocess the graph for altDistance: pick landmarks and compute the distances from and to each of them.
+     * Takes 2 * numOfLandmarks single source searches and 8 * numOfLandmarks bytes per vertex.
+     * @param numOfLandmarks number of landmarks, 16 is a good start
+     */
+    public void buildLandmarks(int numOfLandmarks){
+        CompactGraph reversed = (reversedSearcher != null) ? reversedSearcher.getGraph() : vertices.reverse();
+        setLandmarks(LandmarkIndex.build(vertices, reversed, numOfLandmarks));
+    }
+
+    /**
+     * Load landmarks saved with getLandmarks().save(fileName) for this graph, instead of building them
+     * @param fileName the file name
+     * @throws IOException when the file is not found, or is not a landmark index of this graph
+     */
+    public void loadLandmarks(String fileName) throws IOException {
+        setLandmarks(LandmarkIndex.load(fileName, vertices));
+    }
+
+    /**
+     * @return the landmark index, or null if it was not built or loaded
+     */
+    public LandmarkIndex getLandmarks(){
+        return landmarks;
+    }
+
+    private void setLandmarks(LandmarkIndex index){
+        landmarks = index;
+        altSearcher = new AltSearcher(vertices, index);
+    }
+
+    /**
+     * Compute the shortest path length from start vertex to end vertex with ALT (A* guided by landmark lower
+     * bounds). The result is the same as distance(startID, endID), but far fewer vertices are settled.
+     * Landmarks must be built or loaded first.
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     */
+    public int altDistance(int startID, int endID){
+        int length = altSearcher().searchTo(startID - 1, endID - 1);
+        return (length == Integer.MAX_VALUE) ? noPathLength : length;
+    }
+
+    /**
+     * altDistance(startID, endID) for vertex IDs as written in the input file
+     * @param startExternalId file ID of the source vertex
+     * @param endExternalId file ID of the target vertex
+     * @return shortest path length, or noPathLength if there is no path
+     * @throws IllegalArgumentException when a vertex is not in the graph
+     */
+    public int altDistance(long startExternalId, long endExternalId){
+        return altDistance(vertexIdOf(startExternalId), vertexIdOf(endExternalId));
+    }
+
+    /**
+     * Compute the shortest path from start vertex to end vertex with ALT
+     * @param startID ID of the source vertex
+     * @param endID ID of the target vertex
+     * @return vertex IDs on the path from start to end (both included), or an empty array if there is no path
+     */
+    public int[] altPath(int startID, int endID){
+        if (altSearcher().searchTo(startID - 1, endID - 1) == Integer.MAX_VALUE){
+            return new int[0];
+        }
+        int[] path = altSearcher.pathTo(endID - 1);
+        for (int i = 0; i < path.length; i++){
+            path[i]++; //index to ID
+        }
+        return path;
+    }
+
+    private AltSearcher altSearcher(){
+        if (altSearcher == null){
+            throw new IllegalStateException("Error: landmarks are not built, call buildLandmarks or loadLandmarks first.");
+        }
+        return altSearcher;
+    }
+
+    /**
+     * Run bidirectional search, building the reversed graph the first time it is needed
+     * @return index of the vertex where forward and backward paths meet, -1 if there is no path
+     */
+    private int bidirectionalSearch(int startID, int endID){
+        if (reversedSearcher == null){
+            reversedSearcher = new ShortestPathSearcher(vertices.reverse());
+        }
+        return ShortestPathSearcher.bidirectionalSearch(searcher, reversedSearcher, startID - 1, endID - 1);
+    }
+
+    /**
+     * Receives the result of one search in multiSourceSearch. It is called from worker threads.
+     */
+    public interface DistanceConsumer {
+        /**
+         * @param startID ID of the source vertex
+         * @param distances shortest path of each vertex (index = node ID - 1). The array is scratch space of
+         *                  the worker and is overwritten after this call returns, so copy what must be kept.
+         */
+        void accept(int startID, int[] distances);
+    }
+
+    /**
+     * Compute the shortest paths from many source vertices in parallel on the common ForkJoinPool
+     * @param startIDs IDs of the source vertices
+     * @return distances[i][id - 1] is the shortest path from startIDs[i] to vertex id
+     */
+    public int[][] multiSourceSearch(int[] startIDs){
+        int[][] distances = new int[startIDs.length][];
+        ForkJoinPool.commonPool().invoke(new MultiSourceTask(startIDs, 0, startIDs.length,
+                splitThreshold(startIDs.length, ForkJoinPool.commonPool()), distances, null));
+        return distances;
+    }
+
+    /**
+     * Compute the shortest paths from many source vertices in parallel and stream each result to consumer
+     * instead of keeping all of them. Only one distance array per worker is allocated.
+     * @param startIDs IDs of the source vertices
+     * @param pool the pool that runs the searches
+     * @param consumer receives the result of each search, from worker threads
+     */
+    public void multiSourceSearch(int[] startIDs, ForkJoinPool pool, DistanceConsumer consumer){
+        pool.invoke(new MultiSourceTask(startIDs, 0, startIDs.length,
+                splitThreshold(startIDs.length, pool), null, consumer));
+    }
+
+    /**
+     * Number of sources handled by one worker without splitting further. About 4 chunks per thread
+     * keeps the threads busy when some searches take longer than others.
+     */
+    private static int splitThreshold(int numOfSources, ForkJoinPool pool){
+        return Math.max(1, numOfSources / (4 * pool.getParallelism()));
+    }
+
+    /**
+     * Fork/join task that runs the searches of startIDs[from] ... startIDs[to - 1].
+     * Exactly one of distances and consumer is not null.
+     */
+    private class MultiSourceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] startIDs;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final int[][] distances;
+        private final DistanceConsumer consumer;
+
+        MultiSourceTask(int[] startIDs, int from, int to, int threshold, int[][] distances, DistanceConsumer consumer){
+            this.startIDs = startIDs;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.distances = distances;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold){
+                int mid = (from + to) >>> 1;
+                invokeAll(new MultiSourceTask(startIDs, from, mid, threshold, distances, consumer),
+                        new MultiSourceTask(startIDs, mid, to, threshold, distances, consumer));
+                return;
+            }
+            //scratch state is created once per chunk and reused by all searches in it
+            ShortestPathSearcher worker = new ShortestPathSearcher(vertices);
+            int[] scratch = (consumer == null) ? null : new int[vertices.getNumOfVertices()];
+            for (int i = from; i < to; i++){
+                worker.search(startIDs[i] - 1);
+                if (consumer == null){
+                    distances[i] = new int[vertices.getNumOfVertices()];
+                    worker.copyDistances(distances[i], noPathLength);
+                }
+                else{
+                    worker.copyDistances(scratch, noPathLength);
+                    consumer.accept(startIDs[i], scratch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Print the adjacency list of the graph
+     */
+    public void printGraph(){
+        vertices.printGraph("Printing graph...");
+    }
+
+    /**
+     * This method is to compute the assignment result only.
+     * The assignment asks to compute the shortest path between vertex 1 and each of ten vertices
+     * in array id.
+     */
+    public void printAssignmentAnswer(){
+        int[] id = {7,37,59,82,99,115,133,165,188,197};
+        int[] answer = new int[id.length];
+
+        for (int i = 0; i < id.length; i++){
+            answer[i] = shortestPath[id[i]-1];
+        }
+        System.out.println("Final answer for assignment is: " + Arrays.toString(answer));
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+
+        DijkstraShortestPathFinder test = new DijkstraShortestPathFinder("data/dijkstraData.txt");
+        test.dijkstraSearch(1);
+        test.printAssignmentAnswer();
+    }
+
+}
+
+
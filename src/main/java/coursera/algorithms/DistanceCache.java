@@ -0,0 +1,221 @@
+package coursera.algorithms;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DijkstraShortestPathFinder.
+ *              This class is a thread-safe cache of single source results (one int array of distances per
+ *              source ID), bounded by the total bytes of the cached arrays. When a new result does not fit,
+ *              the least recently used results are evicted (LRU, a LinkedHashMap in access order).
+ *              Misses are single-flight: if several threads miss the same source at once, one of them computes
+ *              it and the others wait for that result instead of computing it again.
+ *              Cached arrays are shared by all callers and must not be modified.
+ *              Hits, misses, evictions and coalesced misses (waited for another thread) are counted.
+ **/
+public class DistanceCache {
+    private static final long ARRAY_HEADER_BYTES = 16; //Object header and length of an int array
+
+    private final long maxBytes;
+    private final IntFunction<int[]> loader; //Computes the distances of a source ID on a miss
+    private final LinkedHashMap<Integer, int[]> entries = new LinkedHashMap<>(16, 0.75f, true); //Guarded by this
+    private final ConcurrentHashMap<Integer, CompletableFuture<int[]>> inFlight = new ConcurrentHashMap<>();
+    private long bytes; //Total size of the cached arrays, guarded by this
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param maxBytes largest total size of the cached arrays
+     * @param loader computes the distances of a source ID on a miss. It is called from the threads that miss,
+     *               at most once at a time per source, and must be thread-safe across sources
+     */
+    public DistanceCache(long maxBytes, IntFunction<int[]> loader){
+        if (maxBytes < 0){
+            throw new IllegalArgumentException("Error: cache size must not be negative.");
+        }
+        this.maxBytes = maxBytes;
+        this.loader = loader;
+    }
+
+    /**
+     * Get the distances of a source, computing them if they are not cached
+     * @param sourceID ID of the source vertex
+     * @return distances of every vertex from the source, shared with other callers (do not modify)
+     */
+    public int[] get(int sourceID){
+        int[] distances = lookup(sourceID);
+        if (distances != null){
+            hits.increment();
+            return distances;
+        }
+        CompletableFuture<int[]> result = new CompletableFuture<>();
+        CompletableFuture<int[]> running = inFlight.putIfAbsent(sourceID, result);
+        if (running != null){ //another thread is computing this source
+            coalesced.increment();
+            return await(running);
+        }
+        try{
+            distances = lookup(sourceID); //the computing thread may have finished after our first lookup
+            if (distances != null){
+                hits.increment();
+            }
+            else{
+                misses.increment();
+                distances = loader.apply(sourceID);
+                store(sourceID, distances);
+            }
+            result.complete(distances);
+            return distances;
+        }
+        catch (RuntimeException | Error e){
+            result.completeExceptionally(e);
+            throw e;
+        }
+        finally{
+            //removed after store, so a thread that no longer sees the future finds the entry
+            inFlight.remove(sourceID, result);
+        }
+    }
+
+    /**
+     * @param sourceID ID of the source vertex
+     * @return true if the distances of the source are cached
+     */
+    public synchronized boolean contains(int sourceID){
+        return entries.containsKey(sourceID);
+    }
+
+    /**
+     * Remove all cached results. Counters are kept.
+     */
+    public synchronized void clear(){
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size(){
+        return entries.size();
+    }
+
+    /**
+     * @return total size of the cached arrays in bytes
+     */
+    public synchronized long getBytes(){
+        return bytes;
+    }
+
+    public long getMaxBytes(){
+        return maxBytes;
+    }
+
+    public long getHits(){
+        return hits.sum();
+    }
+
+    public long getMisses(){
+        return misses.sum();
+    }
+
+    public long getEvictions(){
+        return evictions.sum();
+    }
+
+    /**
+     * @return number of misses that waited for the computation of another thread instead of computing
+     */
+    public long getCoalesced(){
+        return coalesced.sum();
+    }
+
+    private synchronized int[] lookup(int sourceID){
+        return entries.get(sourceID);
+    }
+
+    /**
+     * Add a result and evict least recently used results until the cache fits. A result larger than the
+     * whole cache is not kept.
+     */
+    private synchronized void store(int sourceID, int[] distances){
+        long size = sizeOf(distances);
+        if (size > maxBytes){
+            return;
+        }
+        int[] old = entries.put(sourceID, distances);
+        bytes += size - (old == null ? 0 : sizeOf(old));
+        Iterator<Map.Entry<Integer, int[]>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes){
+            bytes -= sizeOf(eldest.next().getValue());
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long sizeOf(int[] distances){
+        return ARRAY_HEADER_BYTES + 4L * distances.length;
+    }
+
+    private static int[] await(CompletableFuture<int[]> running){
+        try{
+            return running.join();
+        }
+        catch (CompletionException e){
+            if (e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error){
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Query a graph of data/ (or the file given as first argument) from 8 threads with room for 40 results.
+     * 9 of 10 queries go to 30 hot sources, the others to the rest of the vertices. Print the counters.
+     */
+    public static void main(String[] args) throws Exception {
+        String inputFileName = (args.length > 0) ? args[0] : "data/dijkstraData.txt";
+        DijkstraShortestPathFinder finder = new DijkstraShortestPathFinder(inputFileName);
+        int n = finder.getGraph().getNumOfVertices();
+        finder.setDistanceCache(40 * (ARRAY_HEADER_BYTES + 4L * n));
+        int numOfHotSources = Math.min(30, n);
+
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        Future<?>[] done = new Future<?>[8];
+        long start = System.nanoTime();
+        for (int t = 0; t < done.length; t++){
+            int shift = t;
+            done[t] = threads.submit(() -> {
+                for (int i = 0; i < 1000; i++){
+                    boolean hot = (i % 10 != 9) || n == numOfHotSources;
+                    int source = hot ? (i * 7 + shift) % numOfHotSources
+                            : numOfHotSources + (i * 31 + shift * 17) % (n - numOfHotSources);
+                    finder.cachedSearch(source + 1);
+                }
+            });
+        }
+        for (Future<?> f : done){
+            f.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        threads.shutdown();
+        DistanceCache cache = finder.getDistanceCache();
+        long queries = cache.getHits() + cache.getMisses() + cache.getCoalesced();
+        System.out.println("Queries: " + queries + ", hits: " + cache.getHits() + ", misses: " + cache.getMisses()
+                + ", coalesced: " + cache.getCoalesced() + ", evictions: " + cache.getEvictions()
+                + ", cached bytes: " + cache.getBytes());
+        System.out.println("Microseconds per query: " + elapsed / 1e3 / queries);
+    }
+}
@@ -0,0 +1,83 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for CompactGraph.
+ *              This class collects the edges of a graph in growable primitive arrays while the input file
+ *              is read, then builds the CSR graph. Vertex IDs start from 1 and the number of vertices
+ *              is the largest ID seen.
+ **/
+public class EdgeListBuilder {
+    private int[] tails; //Tail vertex index (ID - 1) of each edge
+    private int[] heads; //Head vertex index (ID - 1) of each edge
+    private int[] lengths; //Length of each edge. Null if the graph is unweighted
+    private int numOfEdges;
+    private int maxID;
+
+    /**
+     * @param weighted whether or not edges carry a length
+     */
+    public EdgeListBuilder(boolean weighted){
+        tails = new int[16];
+        heads = new int[16];
+        lengths = weighted ? new int[16] : null;
+    }
+
+    /**
+     * Record that a vertex exists, even if it has no edges
+     * @param id vertex ID (starts from 1)
+     */
+    public void addVertex(int id){
+        if (id < 1){
+            throw new IllegalArgumentException("Error: vertex ID must be positive, found " + id);
+        }
+        if (id > maxID){
+            maxID = id;
+        }
+    }
+
+    public void addEdge(int startID, int endID){
+        addEdge(startID, endID, 0);
+    }
+
+    public void addEdge(GraphEdge edge){
+        addEdge(edge.getStartID(), edge.getEndID(), edge.getLength());
+    }
+
+    public void addEdge(int startID, int endID, int length){
+        addVertex(startID);
+        addVertex(endID);
+        if (numOfEdges == tails.length){
+            int newCapacity = tails.length + (tails.length >> 1);
+            tails = Arrays.copyOf(tails, newCapacity);
+            heads = Arrays.copyOf(heads, newCapacity);
+            if (lengths != null){
+                lengths = Arrays.copyOf(lengths, newCapacity);
+            }
+        }
+        tails[numOfEdges] = startID - 1;
+        heads[numOfEdges] = endID - 1;
+        if (lengths != null){
+            lengths[numOfEdges] = length;
+        }
+        numOfEdges++;
+    }
+
+    public int getNumOfEdges() {
+        return numOfEdges;
+    }
+
+    public int getNumOfVertices() {
+        return maxID;
+    }
+
+    /**
+     * Build the CSR graph from the edges added so far
+     * @return the graph
+     */
+    public CompactGraph build(){
+        return CompactGraph.fromEdges(maxID, tails, heads, lengths, numOfEdges);
+    }
+}
@@ -0,0 +1,33 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for ShortestPathSearcher, AltSearcher and DeltaSteppingSearcher.
+ *              A searcher that is reused keeps one int stamp per vertex and a counter (epoch) that is raised
+ *              at the start of each round, so a vertex counts as touched only if its stamp equals the epoch,
+ *              and no per-vertex array has to be cleared between rounds. This class raises the counter, and
+ *              clears the stamps in the one round out of 2^32 where the counter wraps around to 0.
+ *              The searchers keep the stamp array and the counter themselves, so their inner loops compare
+ *              plain ints.
+ **/
+public class EpochStamps {
+    private EpochStamps(){
+    }
+
+    /**
+     * Begin a new round
+     * @param stamp stamp of each vertex, every value is at most epoch
+     * @param epoch the epoch of the last round (0 before the first round)
+     * @return the epoch of the new round, never 0, so a stamp of 0 always means "not touched"
+     */
+    public static int next(int[] stamp, int epoch){
+        epoch++;
+        if (epoch == 0){ //stamps wrapped around, old stamps could look current
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        return epoch;
+    }
+}
@@ -1,3 +1,5 @@
+package coursera.algorithms;
+
 /**
  * Project: Coursera Algorithms by Standford University
  * Description: Helper class for class DijkstraShortestPathFinder.
@@ -0,0 +1,391 @@
+package coursera.algorithms;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Week 2 Programming Assignment.
+ *              This class represents a graph that has vertex from ID = 1 to ID = n.
+ *              A DFS-based algorithm (Kosaraju's Two-Pass Algorithm)
+ *              is implemented to find the strongly connected components (SCC).
+ *              A single-pass alternative (Tarjan's algorithm, see TarjanSCC) can be selected with getSCC(Algorithm).
+ *              It only walks the forward graph, so the reversed graph is built lazily, when it is needed.
+ *              For multi-core machines a parallel forward-backward algorithm (see ParallelSCC) can be selected.
+ *              After the first decomposition, IncrementalSCC keeps the SCCs up to date while edges are added.
+ * @author : Zitao He
+ * @date : 2021-01-22 20:47
+ **/
+
+public class GraphSCCFinder {
+    /**
+     * SCC algorithms that can be selected in getSCC(Algorithm)
+     */
+    public enum Algorithm {
+        KOSARAJU, //Two DFS passes, on the reversed and on the normal graph
+        TARJAN, //One DFS pass on the normal graph, the reversed graph is not needed
+        PARALLEL //Trimming and forward-backward searches on the common ForkJoinPool
+    }
+
+    //Vertex with ID = i is stored at index i - 1 in below graphs
+    private CompactGraph vertices; //Graph representation
+    private CompactGraph reversed; //Reversed graph representation, built on first use
+    private int[] leader; //Track leader vertex for each vertex in graph (only used in second DFS loop)
+    private boolean [] explored; //Track whether or not the vertex is explored
+    private int [] finishTime; //Track the finish time for each vertex.
+                               //This will be used as ordering in second DFS loop.
+                               //Note: the index of finishTime array is finish time value.
+                               //The value of finishTime array is vertex ID.
+    private int finishTimer; //Track the finish time for each DFS loop
+    private int s; //Temp vertex ID used in DFSLoop method
+    private int[] dfsStack; //Explicit DFS stack of vertex IDs. A vertex is pushed at most once per DFS loop
+    private int[] edgeCursor; //Index of the next edge (in CSR targets array) to visit for each vertex on the stack
+    private VertexIdDictionary ids; //Maps external IDs of the file to vertex IDs 1 ... n, null if file IDs are used
+
+    /**
+     * Construct the directed graph from external .txt file. First integer in each line is start(tail) node.
+     * Second integer in each line is end(head) node.
+     * @param inputFileName string of the file name
+     * @throws FileNotFoundException when file not found, throw exception
+     */
+    public GraphSCCFinder(String inputFileName) throws FileNotFoundException {
+        this(inputFileName, null);
+    }
+
+    /**
+     * Construct the directed graph from external .txt file whose vertex IDs may be any (sparse) 64-bit values.
+     * IDs are mapped to vertex IDs 1 ... n through the dictionary, which translates results back.
+     * @param inputFileName string of the file name
+     * @param ids dictionary for the file's vertex IDs (may already hold IDs), or null if file IDs are 1 ... n
+     * @throws FileNotFoundException when file not found, throw exception
+     */
+    public GraphSCCFinder(String inputFileName, VertexIdDictionary ids) throws FileNotFoundException {
+        this(inputFileName, ids, false);
+    }
+
+    /**
+     * Construct the directed graph from external .txt file, optionally printing a line for every 10% loaded
+     * @param inputFileName string of the file name
+     * @param ids dictionary for the file's vertex IDs (may already hold IDs), or null if file IDs are 1 ... n
+     * @param showProgress true to print the loading progress, as main does for the large assignment file
+     * @throws FileNotFoundException when file not found, throw exception
+     */
+    public GraphSCCFinder(String inputFileName, VertexIdDictionary ids, boolean showProgress)
+            throws FileNotFoundException {
+        EdgeListBuilder edgeList = new EdgeListBuilder(false);
+        finishTimer = 0;
+        this.ids = ids;
+
+        try (MappedInputReader reader = new MappedInputReader(inputFileName)){
+            if (showProgress){
+                reader.reportProgress("Loading file");
+            }
+            while(reader.hasNext()){
+
+                int startId = (ids == null) ? reader.nextInt() : ids.idOf(reader.nextLong());
+                int endId = (ids == null) ? reader.nextInt() : ids.idOf(reader.nextLong());
+
+                //add edge to the graph. Each line (pair of two integers) represent one directed edge
+                //that has 1st integer as start vertex and 2nd integer as end vertex
+                edgeList.addEdge(startId, endId);
+            }
+        }
+        catch (IOException e) {
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+        vertices = edgeList.build();
+    }
+
+    /**
+     * Construct the finder from graphs that are already built
+     * @param vertices the graph
+     * @param reversed the reversed graph, or null to build it when it is needed
+     */
+    private GraphSCCFinder(CompactGraph vertices, CompactGraph reversed){
+        this.vertices = vertices;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Load the graph from a binary snapshot written by GraphSnapshot, without parsing a text file
+     * @param snapshotFile the snapshot file name
+     * @param sourceFile text file the snapshot was made from (rejected if it changed since), or null
+     * @return the finder
+     * @throws IOException when the snapshot is not found, invalid or stale
+     */
+    public static GraphSCCFinder fromSnapshot(String snapshotFile, String sourceFile) throws IOException {
+        GraphSnapshot snapshot = GraphSnapshot.load(snapshotFile, sourceFile, true);
+        return new GraphSCCFinder(snapshot.getGraph(), snapshot.getReversed());
+    }
+
+    public CompactGraph getGraph(){
+        return vertices;
+    }
+
+    /**
+     * @return dictionary of external vertex IDs, or null if the file's IDs are used directly
+     */
+    public VertexIdDictionary getVertexIds(){
+        return ids;
+    }
+
+    /**
+     * Translate a vertex ID of the input file to the vertex ID (1 ... n) used by the queries
+     * @param externalId vertex ID as written in the input file
+     * @return vertex ID, the same value if the file's IDs are used directly
+     * @throws IllegalArgumentException when the vertex is not in the graph
+     */
+    public int vertexIdOf(long externalId){
+        if (ids != null){
+            return ids.denseId(externalId);
+        }
+        if (externalId < 1 || externalId > vertices.getNumOfVertices()){
+            throw new IllegalArgumentException("Error: vertex " + externalId + " is not in the graph.");
+        }
+        return (int) externalId;
+    }
+
+    /**
+     * @param vertexIdList vertex IDs (1 ... n), e.g. a path
+     * @return vertex IDs as written in the input file, in the same order
+     */
+    public long[] externalIdsOf(int[] vertexIdList){
+        if (ids != null){
+            return ids.externalIds(vertexIdList);
+        }
+        long[] result = new long[vertexIdList.length];
+        for (int i = 0; i < vertexIdList.length; i++){
+            result[i] = vertexIdList[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return reversed graph, built from CSR directly (no second pass over the file) on first call
+     */
+    private CompactGraph reversedGraph(){
+        if (reversed == null){
+            reversed = vertices.reverse();
+        }
+        return reversed;
+    }
+
+
+
+    /**
+     * Implement the first DFS loop DFS-based algorithm (Kosaraju's Two-Pass Algorithm)
+     * The purpose of this loop is to find finishing time for each vertex
+     * This loop uses reversed graph(not normal graph)
+     */
+    public void firstDFSLoop(){
+        reversedGraph(); //build reversed graph on first use
+        finishTimer = 0;
+        finishTime = new int[reversed.getNumOfVertices()];
+        explored = new boolean[reversed.getNumOfVertices()];
+        Arrays.fill(explored, Boolean.FALSE); //set all explored value to false
+        dfsStack = new int[reversed.getNumOfVertices()];
+        edgeCursor = new int[reversed.getNumOfVertices()];
+
+        //finishTime also represents # of nodes processed so far
+        int numOfVertices = reversed.getNumOfVertices();
+        for (int i = numOfVertices; i >= 1; i--){
+            if (explored[i-1] == false){
+                firstDFS(i);
+            }
+        }
+    }
+
+    /**
+     * Implement the first DFS loop DFS-based algorithm (Kosaraju's Two-Pass Algorithm)
+     * The purpose of this loop is to find SCC. Each SCC has vertices that all have the same leader
+     * This loop uses normal graph(not reversed graph)
+     */
+    public void secondDFSLoop(){
+        leader = new int[vertices.getNumOfVertices()];
+        Arrays.fill(leader, -1); //set all leader value to -1 (invalid negative)
+
+        explored = new boolean[vertices.getNumOfVertices()];
+        Arrays.fill(explored, Boolean.FALSE); //set all explored value to false
+        dfsStack = new int[vertices.getNumOfVertices()];
+        edgeCursor = new int[vertices.getNumOfVertices()];
+        s = -1; //negative value to initialize an invalid vertex. This is used for leaders in 2nd loop
+        int numOfVertices = vertices.getNumOfVertices();
+        for (int i = numOfVertices; i >= 1; i--){
+            int currVertex = finishTime[i-1]; //Get the vertex that has i as finish time
+                                              //Note: finish time starts with 0(index) in finishTime array!
+            if (explored[currVertex-1] == false){
+                s = currVertex;
+                secondDFS(currVertex, s);
+            }
+        }
+    }
+
+    /**
+     * First DFS for first DFS loop in Kosaraju's Two-Pass Algorithm.
+     * The DFS is iterative: an explicit int stack holds the current path and a per-vertex edge cursor
+     * remembers which neighbor to visit next, so very long paths do not overflow the thread stack.
+     * @param startNode the vertex(note) to start first DFS
+     */
+    public void firstDFS(int startNode){
+        int top = 0;
+        dfsStack[top++] = startNode;
+        explored[startNode-1] = true; //mark start node as explored
+        int[] offsets = reversedGraph().getOffsets();
+        int[] targets = reversedGraph().getTargets();
+        edgeCursor[startNode-1] = offsets[startNode-1];
+        while (top > 0){
+            int currVertex = dfsStack[top-1];
+            int cursor = edgeCursor[currVertex-1];
+            int end = offsets[currVertex];
+            //advance the cursor to the next unexplored neighbor (targets hold vertex index, which is ID - 1)
+            while (cursor < end && explored[targets[cursor]]){
+                cursor++;
+            }
+            if (cursor < end){
+                int neighbor = targets[cursor] + 1;
+                edgeCursor[currVertex-1] = cursor + 1;
+                explored[neighbor-1] = true;
+                edgeCursor[neighbor-1] = offsets[neighbor-1];
+                dfsStack[top++] = neighbor;
+            }
+            else{ //all neighbors are explored, so current vertex is finished
+                top--;
+                finishTime[finishTimer] = currVertex; //finish time starts with zero!
+                finishTimer ++;
+            }
+        }
+    }
+
+    /**
+     * Second DFS for second DFS loop in Kosaraju's Two-Pass Algorithm.
+     * Same iterative scheme as firstDFS, running on the normal graph.
+     * @param startNode the vertex(note) to start second DFS
+     * @param leaderNode the leader vertex(note) of the startNode
+     */
+    public void secondDFS(int startNode, int leaderNode){
+        int top = 0;
+        dfsStack[top++] = startNode;
+        explored[startNode-1] = true;
+        leader[startNode-1] = leaderNode;
+        int[] offsets = vertices.getOffsets();
+        int[] targets = vertices.getTargets();
+        edgeCursor[startNode-1] = offsets[startNode-1];
+        while (top > 0){
+            int currVertex = dfsStack[top-1];
+            int cursor = edgeCursor[currVertex-1];
+            int end = offsets[currVertex];
+            while (cursor < end && explored[targets[cursor]]){
+                cursor++;
+            }
+            if (cursor < end){
+                int neighbor = targets[cursor] + 1;
+                edgeCursor[currVertex-1] = cursor + 1;
+                explored[neighbor-1] = true;
+                leader[neighbor-1] = leaderNode;
+                edgeCursor[neighbor-1] = offsets[neighbor-1];
+                dfsStack[top++] = neighbor;
+            }
+            else{
+                top--;
+            }
+        }
+    }
+
+    /**
+     * Compute the SCCs with Kosaraju's Two-Pass Algorithm
+     * @return an integer array that has the number of vertices in top 5 largest SCCs, in decreasing order
+     *         If there are less than 5 SCCs, fill the rest array values with 0.
+     */
+    public int[] getSCC(){
+        return getSCC(Algorithm.KOSARAJU);
+    }
+
+    /**
+     * Compute the SCCs with the given algorithm. All algorithms give the same result.
+     * @param algorithm KOSARAJU, TARJAN or PARALLEL
+     * @return an integer array that has the number of vertices in top 5 largest SCCs, in decreasing order
+     *         If there are less than 5 SCCs, fill the rest array values with 0.
+     */
+    public int[] getSCC(Algorithm algorithm){
+        return getSCCResult(algorithm).topComponentSizes(5);
+    }
+
+    /**
+     * Compute the SCCs with the given algorithm and keep the full result
+     * @param algorithm KOSARAJU, TARJAN or PARALLEL
+     * @return component of every vertex, component sizes and condensation DAG
+     */
+    public SCCResult getSCCResult(Algorithm algorithm){
+        if (algorithm == Algorithm.TARJAN){
+            TarjanSCC tarjan = new TarjanSCC(vertices);
+            return new SCCResult(vertices, tarjan.getComponent(), tarjan.getNumOfComponents());
+        }
+        if (algorithm == Algorithm.PARALLEL){
+            ParallelSCC parallel = new ParallelSCC(vertices, reversedGraph(), ForkJoinPool.commonPool());
+            return new SCCResult(vertices, parallel.getComponent(), parallel.getNumOfComponents());
+        }
+        firstDFSLoop();
+        secondDFSLoop();
+        //leaders in order of decreasing finish time (the order of second DFS loop) get component ID 0, 1, 2...
+        //which is a reverse topological order of the condensation (second loop finds sink components first)
+        int numOfVertices = vertices.getNumOfVertices();
+        int[] leaderComponent = new int[numOfVertices];
+        int numOfComponents = 0;
+        for (int i = numOfVertices; i >= 1; i--){
+            int currVertex = finishTime[i-1];
+            if (leader[currVertex-1] == currVertex){
+                leaderComponent[currVertex-1] = numOfComponents++;
+            }
+        }
+        int[] component = new int[numOfVertices];
+        for (int i = 0; i < numOfVertices; i++){
+            component[i] = leaderComponent[leader[i]-1];
+        }
+        return new SCCResult(vertices, component, numOfComponents);
+    }
+
+    /**
+     * Start incremental SCC maintenance from the current graph (decomposed once with Tarjan's algorithm).
+     * Edges added to the returned object update its components, this finder is not changed.
+     * @return incremental SCC structure
+     */
+    public IncrementalSCC getIncrementalSCC(){
+        return new IncrementalSCC(getSCCResult(Algorithm.TARJAN));
+    }
+
+    public void printGraph(){
+        vertices.printGraph("Printing graph...");
+    }
+
+    public void printReversedGraph(){
+        reversedGraph().printGraph("Printing REVERSED graph...");
+    }
+
+    //helper method for de-bugging
+    public void printGraphInfo(){
+        System.out.println("Printing other graph info...");
+        System.out.println("Variable leader is: " + Arrays.toString(leader));
+        System.out.println("Variable explored is: " + Arrays.toString(explored));
+
+    }
+
+    //helper method for de-bugging
+    public void printFinishTime(){
+        for (int i=0; i<vertices.getNumOfVertices(); i++){
+            System.out.println("Printing vertex ID for finish time " + (i + 1) + ": " + finishTime[i]);
+        }
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+
+        GraphSCCFinder test = new GraphSCCFinder("data/SCC.txt", null, true);
+        System.out.println("Top five SCC is: " + Arrays.toString(test.getSCC()));
+        System.out.println("Top five SCC (Tarjan) is: " + Arrays.toString(test.getSCC(Algorithm.TARJAN)));
+        System.out.println("Top five SCC (parallel) is: " + Arrays.toString(test.getSCC(Algorithm.PARALLEL)));
+        //correct answer is: 434821,968,459,313,211
+    }
+}
+
+
@@ -0,0 +1,194 @@
+package coursera.algorithms;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.CRC32;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder and DijkstraShortestPathFinder.
+ *              This class writes a CompactGraph (and optionally its reversed graph) to a binary snapshot file
+ *              and loads it back with FileChannel.map, so a graph is ready without parsing the text file.
+ *              Layout (little endian):
+ *                  header: magic, format version, flags (1 = weights, 2 = reversed graph), numOfVertices,
+ *                          numOfEdges, size and last modified time of the source text file, CRC32 of the body
+ *                  body:   offsets, targets, [weights], [reversed offsets, reversed targets, [reversed weights]]
+ *              A snapshot of another format version, with a wrong checksum, or older than its source text file
+ *              (different size or modified time) is rejected with an IOException.
+ *              Snapshots hold dense vertex indices, a VertexIdDictionary is not saved.
+ *              The arrays are written and read by IntArrayFile, with the same format rules as a LandmarkIndex file.
+ *
+ *              Command line: java coursera.algorithms.GraphSnapshot input.txt [output.snap]
+ *              The format of input.txt is detected: lines with "vertex,length" tuples are read as a Dijkstra graph,
+ *              other files as an SCC edge list.
+ **/
+public class GraphSnapshot {
+    private static final int MAGIC = 0x47525343; //"CSRG" in little endian
+    private static final int VERSION = 1;
+    private static final int FLAG_WEIGHTS = 1;
+    private static final int FLAG_REVERSED = 2;
+    private static final int HEADER_SIZE = 48;
+
+    private final CompactGraph graph;
+    private final CompactGraph reversed; //Null if the snapshot has no reversed graph
+
+    private GraphSnapshot(CompactGraph graph, CompactGraph reversed){
+        this.graph = graph;
+        this.reversed = reversed;
+    }
+
+    public CompactGraph getGraph(){
+        return graph;
+    }
+
+    /**
+     * @return reversed graph, or null if it was not saved
+     */
+    public CompactGraph getReversed(){
+        return reversed;
+    }
+
+    /**
+     * Write a snapshot
+     * @param snapshotFile the snapshot file name, overwritten if it exists
+     * @param graph the graph
+     * @param reversed reversed graph of graph, or null to leave it out
+     * @param sourceFile text file the graph was loaded from (for stale snapshot detection), or null
+     * @throws IOException when writing fails
+     */
+    public static void write(String snapshotFile, CompactGraph graph, CompactGraph reversed, String sourceFile)
+            throws IOException {
+        int flags = (graph.hasWeights() ? FLAG_WEIGHTS : 0) | (reversed != null ? FLAG_REVERSED : 0);
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = IntArrayFile.openForWrite(snapshotFile)){
+            ByteBuffer buffer = IntArrayFile.newBuffer();
+            channel.position(HEADER_SIZE);
+            writeSection(channel, buffer, checksum, graph);
+            if (reversed != null){
+                writeSection(channel, buffer, checksum, reversed);
+            }
+
+            ByteBuffer header = IntArrayFile.newHeader(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(graph.getNumOfVertices());
+            header.putLong(graph.getNumOfEdges());
+            header.putLong(sourceSize(sourceFile)).putLong(sourceLastModified(sourceFile));
+            header.putLong(checksum.getValue());
+            IntArrayFile.writeHeader(channel, header);
+        }
+    }
+
+    /**
+     * Load a snapshot
+     * @param snapshotFile the snapshot file name
+     * @param sourceFile text file the snapshot was made from, the snapshot is rejected if that file changed
+     *                   since; null to skip this check
+     * @param verifyChecksum true to compute the CRC32 of the body and compare it with the header
+     * @return the snapshot
+     * @throws FileNotFoundException when the snapshot file is not found
+     * @throws IOException when the snapshot is invalid, stale or can not be read
+     */
+    public static GraphSnapshot load(String snapshotFile, String sourceFile, boolean verifyChecksum)
+            throws IOException {
+        try (FileChannel in = IntArrayFile.openForRead(snapshotFile)){
+            if (in.size() < HEADER_SIZE){
+                throw new IOException("Error: " + snapshotFile + " is not a graph snapshot.");
+            }
+            ByteBuffer header = IntArrayFile.readHeader(in, HEADER_SIZE);
+            if (header.getInt() != MAGIC){
+                throw new IOException("Error: " + snapshotFile + " is not a graph snapshot.");
+            }
+            int version = header.getInt();
+            if (version != VERSION){
+                throw new IOException("Error: snapshot version " + version + " is not supported (expected "
+                        + VERSION + ").");
+            }
+            int flags = header.getInt();
+            int numOfVertices = header.getInt();
+            long numOfEdges = header.getLong();
+            long sourceSize = header.getLong();
+            long sourceLastModified = header.getLong();
+            long expectedChecksum = header.getLong();
+            if (sourceFile != null && (sourceSize != sourceSize(sourceFile)
+                    || sourceLastModified != sourceLastModified(sourceFile))){
+                throw new IOException("Error: snapshot is stale, " + sourceFile + " changed after it was written.");
+            }
+            if (numOfEdges > Integer.MAX_VALUE){
+                throw new IOException("Error: snapshot has too many edges.");
+            }
+            CRC32 checksum = verifyChecksum ? new CRC32() : null;
+            long[] position = {HEADER_SIZE};
+            boolean weighted = (flags & FLAG_WEIGHTS) != 0;
+            CompactGraph graph = readSection(in, position, checksum, numOfVertices, (int) numOfEdges, weighted);
+            CompactGraph reversed = null;
+            if ((flags & FLAG_REVERSED) != 0){
+                reversed = readSection(in, position, checksum, numOfVertices, (int) numOfEdges, weighted);
+            }
+            if (checksum != null && checksum.getValue() != expectedChecksum){
+                throw new IOException("Error: snapshot checksum does not match, the file is corrupted.");
+            }
+            return new GraphSnapshot(graph, reversed);
+        }
+    }
+
+    private static void writeSection(FileChannel channel, ByteBuffer buffer, CRC32 checksum, CompactGraph g)
+            throws IOException {
+        IntArrayFile.writeInts(channel, buffer, checksum, g.getOffsets(), g.getNumOfVertices() + 1);
+        IntArrayFile.writeInts(channel, buffer, checksum, g.getTargets(), g.getNumOfEdges());
+        if (g.hasWeights()){
+            IntArrayFile.writeInts(channel, buffer, checksum, g.getWeights(), g.getNumOfEdges());
+        }
+    }
+
+    private static CompactGraph readSection(FileChannel channel, long[] position, CRC32 checksum,
+                                            int numOfVertices, int numOfEdges, boolean weighted) throws IOException {
+        int[] offsets = IntArrayFile.readInts(channel, position, checksum, numOfVertices + 1);
+        int[] targets = IntArrayFile.readInts(channel, position, checksum, numOfEdges);
+        int[] weights = weighted ? IntArrayFile.readInts(channel, position, checksum, numOfEdges) : null;
+        return new CompactGraph(numOfVertices, offsets, targets, weights);
+    }
+
+    private static long sourceSize(String sourceFile){
+        return (sourceFile == null) ? -1 : new File(sourceFile).length();
+    }
+
+    private static long sourceLastModified(String sourceFile){
+        return (sourceFile == null) ? -1 : new File(sourceFile).lastModified();
+    }
+
+    /**
+     * Convert a text graph of data/ to a snapshot
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1){
+            System.out.println("Usage: java coursera.algorithms.GraphSnapshot input.txt [output.snap]");
+            return;
+        }
+        String inputFileName = args[0];
+        String snapshotFile = (args.length > 1) ? args[1] : inputFileName + ".snap";
+        boolean dijkstraFormat;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(inputFileName))){
+            String firstLine = reader.readLine();
+            dijkstraFormat = firstLine != null && firstLine.indexOf(',') >= 0;
+        }
+
+        long start = System.nanoTime();
+        CompactGraph graph = dijkstraFormat ? new DijkstraShortestPathFinder(inputFileName).getGraph()
+                : new GraphSCCFinder(inputFileName).getGraph();
+        long parsed = System.nanoTime();
+        write(snapshotFile, graph, graph.reverse(), inputFileName);
+        long written = System.nanoTime();
+        GraphSnapshot snapshot = load(snapshotFile, inputFileName, true);
+        long loaded = System.nanoTime();
+        System.out.println("Wrote " + snapshotFile + " (" + (dijkstraFormat ? "Dijkstra" : "SCC") + " graph, "
+                + snapshot.getGraph().getNumOfVertices() + " vertices, " + snapshot.getGraph().getNumOfEdges()
+                + " edges, " + Files.size(Paths.get(snapshotFile)) + " bytes)");
+        System.out.println("Text parse ms: " + (parsed - start) / 1e6 + ", snapshot write ms: " + (written - parsed) / 1e6
+                + ", snapshot load ms (with checksum): " + (loaded - written) / 1e6);
+    }
+}
@@ -0,0 +1,307 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder.
+ *              This class keeps the SCCs of a graph up to date while edges are added, starting from an initial
+ *              decomposition (SCCResult). Components are sets of a union-find structure (union by size, path
+ *              halving), and the condensation DAG keeps a topological order ord of the components, maintained
+ *              with the dynamic topological sort of Pearce and Kelly:
+ *              For a new edge between components cu -> cv with ord[cu] < ord[cv] nothing changes. Otherwise the
+ *              components reachable from cv with ord <= ord[cu] (set F) and the components reaching cu with
+ *              ord >= ord[cv] (set B) are searched. If cu is in F the edge closes a cycle, and F and B together
+ *              are exactly the components on the cycles: they are merged into one component. Then B, the merged
+ *              component and F are reassigned the ord values they held before, in this order.
+ *              Only components between ord[cv] and ord[cu] are visited, so an insert is usually far cheaper than
+ *              running the whole decomposition again, and sizes can be queried at any time.
+ *              The vertex set is fixed by the initial graph (vertex ID 1 ... n).
+ **/
+public class IncrementalSCC {
+    private final int[] vertexComponent; //Initial component of each vertex index, resolved with find()
+    private final int[] parent; //Union-find parent of each initial component
+    private final int[] size; //Number of vertices of each component (valid for roots)
+    private final int[] ord; //Position of each component (root) in the topological order
+    private final int[] baseOffsets, baseTargets; //Initial condensation DAG (CSR)
+    private final int[] baseInOffsets, baseInTargets; //Reversed initial condensation DAG
+    private final int[][] extraOut, extraIn; //Edges added later or inherited from merged components, null if none
+    private final int[] extraOutSize, extraInSize;
+    private final int[] forwardMark, backwardMark; //Search epoch in which a component was visited
+    private int epoch;
+    private int[] stack = new int[16];
+    private int[] forwardSet = new int[16], backwardSet = new int[16]; //Components found by the last search
+    private int numOfComponents;
+
+    /**
+     * @param initial decomposition of the initial graph
+     */
+    public IncrementalSCC(SCCResult initial){
+        int k = initial.getNumOfComponents();
+        vertexComponent = initial.getComponent().clone();
+        parent = new int[k];
+        size = initial.getComponentSizes().clone();
+        for (int c = 0; c < k; c++){
+            parent[c] = c;
+        }
+        CompactGraph dag = initial.getCondensation();
+        CompactGraph reversedDag = dag.reverse();
+        baseOffsets = dag.getOffsets();
+        baseTargets = dag.getTargets();
+        baseInOffsets = reversedDag.getOffsets();
+        baseInTargets = reversedDag.getTargets();
+        extraOut = new int[k][];
+        extraIn = new int[k][];
+        extraOutSize = new int[k];
+        extraInSize = new int[k];
+        forwardMark = new int[k];
+        backwardMark = new int[k];
+        numOfComponents = k;
+
+        //initial topological order (Kahn's algorithm), the component ID order depends on the SCC algorithm
+        ord = new int[k];
+        int[] inDegree = new int[k];
+        for (int target : baseTargets){
+            inDegree[target]++;
+        }
+        int[] queue = new int[k];
+        int head = 0;
+        int tail = 0;
+        for (int c = 0; c < k; c++){
+            if (inDegree[c] == 0){
+                queue[tail++] = c;
+            }
+        }
+        while (head < tail){
+            int c = queue[head];
+            ord[c] = head++;
+            for (int e = baseOffsets[c]; e < baseOffsets[c + 1]; e++){
+                if (--inDegree[baseTargets[e]] == 0){
+                    queue[tail++] = baseTargets[e];
+                }
+            }
+        }
+    }
+
+    /**
+     * Add edge startID -> endID and merge the components on the cycles it closes
+     * @param startID tail vertex ID
+     * @param endID head vertex ID
+     * @return true if components were merged
+     */
+    public boolean addEdge(int startID, int endID){
+        int cu = find(vertexComponent[checkVertex(startID) - 1]);
+        int cv = find(vertexComponent[checkVertex(endID) - 1]);
+        if (cu == cv){
+            return false; //edge inside a component
+        }
+        addListEntry(extraOut, extraOutSize, cu, cv);
+        addListEntry(extraIn, extraInSize, cv, cu);
+        int lowerBound = ord[cv];
+        int upperBound = ord[cu];
+        if (upperBound < lowerBound){
+            return false; //order is still topological
+        }
+
+        epoch++;
+        int numOfForward = search(cv, upperBound, true);
+        boolean cycle = forwardMark[cu] == epoch;
+        int numOfBackward = search(cu, lowerBound, false);
+
+        //the ord values of F and B, handed out again in the order B, merged component, F
+        int[] pool = new int[numOfForward + numOfBackward];
+        int poolSize = 0;
+        for (int i = 0; i < numOfForward; i++){
+            pool[poolSize++] = ord[forwardSet[i]];
+        }
+        for (int i = 0; i < numOfBackward; i++){
+            if (forwardMark[backwardSet[i]] != epoch){ //components in both sets are counted once
+                pool[poolSize++] = ord[backwardSet[i]];
+            }
+        }
+        Arrays.sort(pool, 0, poolSize);
+        int[] backwardOnly = filterByOrd(backwardSet, numOfBackward, forwardMark, false);
+        int[] forwardOnly = filterByOrd(forwardSet, numOfForward, backwardMark, false);
+        int next = 0;
+        for (int c : backwardOnly){
+            ord[c] = pool[next++];
+        }
+        if (cycle){
+            int[] merged = filterByOrd(forwardSet, numOfForward, backwardMark, true);
+            int mergedOrd = pool[next];
+            next += merged.length;
+            int root = merge(merged);
+            ord[root] = mergedOrd;
+        }
+        for (int c : forwardOnly){
+            ord[c] = pool[next++];
+        }
+        return cycle;
+    }
+
+    /**
+     * @return number of components
+     */
+    public int getNumOfComponents(){
+        return numOfComponents;
+    }
+
+    /**
+     * @param vertexID vertex ID
+     * @return ID of the component of the vertex (stable until the component is merged)
+     */
+    public int componentOf(int vertexID){
+        return find(vertexComponent[checkVertex(vertexID) - 1]);
+    }
+
+    /**
+     * @param vertexID vertex ID
+     * @return number of vertices in the component of the vertex
+     */
+    public int componentSize(int vertexID){
+        return size[componentOf(vertexID)];
+    }
+
+    public boolean sameComponent(int firstID, int secondID){
+        return componentOf(firstID) == componentOf(secondID);
+    }
+
+    /**
+     * @param k number of sizes
+     * @return the k largest component sizes in decreasing order, filled with 0 if there are less than k components
+     */
+    public int[] topComponentSizes(int k){
+        int[] sizes = new int[numOfComponents]; //sizes of the roots, the sizes of merged components are stale
+        int numOfRoots = 0;
+        for (int c = 0; c < parent.length; c++){
+            if (parent[c] == c){
+                sizes[numOfRoots++] = size[c];
+            }
+        }
+        return IntHeap.largest(sizes, k);
+    }
+
+    private int checkVertex(int vertexID){
+        if (vertexID < 1 || vertexID > vertexComponent.length){
+            throw new IllegalArgumentException("Error: vertex " + vertexID + " is not in the graph.");
+        }
+        return vertexID;
+    }
+
+    private int find(int c){
+        while (parent[c] != c){
+            parent[c] = parent[parent[c]]; //path halving
+            c = parent[c];
+        }
+        return c;
+    }
+
+    /**
+     * DFS over components from start, forward (out-edges, ord <= bound) or backward (in-edges, ord >= bound).
+     * Visited components are marked with the current epoch and stored in forwardSet or backwardSet.
+     * @return number of visited components
+     */
+    private int search(int start, int bound, boolean forward){
+        int[] mark = forward ? forwardMark : backwardMark;
+        int[] found = forward ? forwardSet : backwardSet;
+        int[] offsets = forward ? baseOffsets : baseInOffsets;
+        int[] targets = forward ? baseTargets : baseInTargets;
+        int[][] extra = forward ? extraOut : extraIn;
+        int[] extraSize = forward ? extraOutSize : extraInSize;
+        int numFound = 0;
+        int top = 0;
+        mark[start] = epoch;
+        stack[top++] = start;
+        while (top > 0){
+            int c = stack[--top];
+            if (numFound == found.length){
+                found = Arrays.copyOf(found, numFound * 2);
+            }
+            found[numFound++] = c;
+            int baseEnd = offsets[c + 1];
+            int numOfEdges = (baseEnd - offsets[c]) + extraSize[c];
+            for (int i = 0; i < numOfEdges; i++){
+                int e = offsets[c] + i;
+                int d = find((e < baseEnd) ? targets[e] : extra[c][e - baseEnd]);
+                if (d == c || mark[d] == epoch){continue;}
+                if (forward ? ord[d] > bound : ord[d] < bound){continue;} //outside the affected region
+                mark[d] = epoch;
+                if (top == stack.length){
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = d;
+            }
+        }
+        if (forward){
+            forwardSet = found;
+        }
+        else{
+            backwardSet = found;
+        }
+        return numFound;
+    }
+
+    /**
+     * @return components of set[0 ... count-1] whose mark is (inOther) or is not (!inOther) the current epoch,
+     *         sorted by ord
+     */
+    private int[] filterByOrd(int[] set, int count, int[] otherMark, boolean inOther){
+        long[] keyed = new long[count];
+        int size = 0;
+        for (int i = 0; i < count; i++){
+            int c = set[i];
+            if ((otherMark[c] == epoch) == inOther){
+                keyed[size++] = ((long) ord[c] << 32) | c;
+            }
+        }
+        Arrays.sort(keyed, 0, size);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++){
+            result[i] = (int) keyed[i];
+        }
+        return result;
+    }
+
+    /**
+     * Merge components into the largest one. Edge lists of the others are appended to its extra lists.
+     * @return root of the merged component
+     */
+    private int merge(int[] components){
+        int root = components[0];
+        for (int c : components){
+            if (size[c] > size[root]){
+                root = c;
+            }
+        }
+        for (int c : components){
+            if (c == root){continue;}
+            parent[c] = root;
+            size[root] += size[c];
+            moveEdges(c, root, baseOffsets, baseTargets, extraOut, extraOutSize);
+            moveEdges(c, root, baseInOffsets, baseInTargets, extraIn, extraInSize);
+            numOfComponents--;
+        }
+        return root;
+    }
+
+    private void moveEdges(int from, int to, int[] offsets, int[] targets, int[][] extra, int[] extraSize){
+        for (int e = offsets[from]; e < offsets[from + 1]; e++){
+            addListEntry(extra, extraSize, to, targets[e]);
+        }
+        for (int i = 0; i < extraSize[from]; i++){
+            addListEntry(extra, extraSize, to, extra[from][i]);
+        }
+        extra[from] = null;
+        extraSize[from] = 0;
+    }
+
+    private static void addListEntry(int[][] lists, int[] sizes, int c, int value){
+        if (lists[c] == null){
+            lists[c] = new int[4];
+        }
+        else if (sizes[c] == lists[c].length){
+            lists[c] = Arrays.copyOf(lists[c], sizes[c] * 2);
+        }
+        lists[c][sizes[c]++] = value;
+    }
+}
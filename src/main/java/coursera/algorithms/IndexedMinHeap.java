@@ -0,0 +1,184 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for ShortestPathSearcher and SlidingWindowMedian.
+ *              This class is a binary min heap of items 0 to capacity - 1, each with an integer key.
+ *              Like the heaps in StreamMedianFinder it is stored as an array (children of position i are
+ *              2i+1 and 2i+2), but it also tracks the heap position of every item, so the key of an item
+ *              already in the heap can be decreased in O(log n) (decrease-key).
+ *              All storage is primitive int arrays allocated once in the constructor.
+ **/
+public class IndexedMinHeap implements VertexQueue {
+    private final int[] heap; //heap[i] is the item at heap position i
+    private final int[] position; //position[item] is the heap position of item, -1 if not in heap
+    private final int[] keys; //keys[item] is the key of item
+    private int size;
+
+    /**
+     * @param capacity number of items, items are 0 to capacity - 1
+     */
+    public IndexedMinHeap(int capacity){
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean contains(int item){
+        return position[item] >= 0;
+    }
+
+    public int keyOf(int item){
+        return keys[item];
+    }
+
+    /**
+     * Insert an item that is not in the heap yet
+     * @param item item to be inserted
+     * @param key key of item
+     */
+    public void insert(int item, int key){
+        if (position[item] >= 0){
+            throw new IllegalArgumentException("Error: item " + item + " is already in heap.");
+        }
+        keys[item] = key;
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Decrease the key of an item in the heap
+     * @param item item in heap
+     * @param key new key, must not be larger than the current key
+     */
+    public void decreaseKey(int item, int key){
+        if (key > keys[item]){
+            throw new IllegalArgumentException("Error: new key is larger than current key.");
+        }
+        keys[item] = key;
+        siftUp(position[item]);
+    }
+
+    /**
+     * Insert the item, or decrease its key if it is already in heap with a larger key
+     * @param item item to be inserted or updated
+     * @param key key of item
+     */
+    public void insertOrDecrease(int item, int key){
+        if (position[item] < 0){
+            insert(item, key);
+        }
+        else if (key < keys[item]){
+            decreaseKey(item, key);
+        }
+    }
+
+    public int peekMin(){
+        if (size == 0){
+            throw new NoSuchElementException("Error: heap is empty.");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Extract the item with min key (root will be deleted)
+     * @return the item with min key
+     */
+    public int extractMin(){
+        int min = peekMin();
+        position[min] = -1;
+        size--;
+        if (size > 0){
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Remove an item from anywhere in the heap
+     * @param item item in heap
+     */
+    public void remove(int item){
+        int idx = position[item];
+        if (idx < 0){
+            throw new IllegalArgumentException("Error: item " + item + " is not in heap.");
+        }
+        position[item] = -1;
+        size--;
+        if (idx < size){ //fill the hole with the last item, which may need to go up or down
+            int last = heap[size];
+            heap[idx] = last;
+            position[last] = idx;
+            siftUp(idx);
+            siftDown(position[last]);
+        }
+    }
+
+    /**
+     * Remove all items. Only the positions of items currently in heap are reset.
+     */
+    public void clear(){
+        for (int i = 0; i < size; i++){
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Bubble up the item at heap position idx until its parent key is not larger
+     */
+    private void siftUp(int idx){
+        int item = heap[idx];
+        int key = keys[item];
+        while (idx > 0){
+            int parentIdx = (idx - 1) >>> 1;
+            int parent = heap[parentIdx];
+            if (keys[parent] <= key){break;}
+            heap[idx] = parent; //move parent down instead of swapping
+            position[parent] = idx;
+            idx = parentIdx;
+        }
+        heap[idx] = item;
+        position[item] = idx;
+    }
+
+    /**
+     * Percolate down the item at heap position idx until no child has a smaller key
+     */
+    private void siftDown(int idx){
+        int item = heap[idx];
+        int key = keys[item];
+        int half = size >>> 1; //positions below half have at least one child
+        while (idx < half){
+            int childIdx = 2*idx + 1;
+            int child = heap[childIdx];
+            int rightIdx = childIdx + 1;
+            if (rightIdx < size && keys[heap[rightIdx]] < keys[child]){
+                childIdx = rightIdx;
+                child = heap[childIdx];
+            }
+            if (key <= keys[child]){break;}
+            heap[idx] = child;
+            position[child] = idx;
+            idx = childIdx;
+        }
+        heap[idx] = item;
+        position[item] = idx;
+    }
+}
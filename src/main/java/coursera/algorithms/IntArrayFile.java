@@ -0,0 +1,149 @@
+package coursera.algorithms;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSnapshot and LandmarkIndex.
+ *              Both binary files are a fixed size header followed by int arrays. This class holds the format
+ *              rules they share: little endian ints, arrays written through one direct buffer and read back with
+ *              FileChannel.map in chunks of at most CHUNK_SIZE bytes (bulk copy, no parsing), and a CRC32 over
+ *              the bytes of all arrays in file order, which the writer stores in its header.
+ **/
+public class IntArrayFile {
+    public static final int CHUNK_SIZE = 1 << 28; //Bytes mapped at a time when reading
+    private static final int BUFFER_SIZE = 1 << 20; //Bytes of the write buffer
+
+    private IntArrayFile(){
+    }
+
+    /**
+     * @param fileName the file name
+     * @return channel open for reading
+     * @throws FileNotFoundException when the file is not found
+     */
+    public static FileChannel openForRead(String fileName) throws FileNotFoundException {
+        try{
+            return FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        }
+        catch (IOException e){
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+    }
+
+    /**
+     * @param fileName the file name, overwritten if it exists
+     * @return channel open for writing, at position 0
+     * @throws IOException when the file can not be created
+     */
+    public static FileChannel openForWrite(String fileName) throws IOException {
+        return FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * @return write buffer for writeInts, little endian
+     */
+    public static ByteBuffer newBuffer(){
+        return ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @param size header size in bytes
+     * @return little endian buffer for a header, to be filled and passed to writeHeader
+     */
+    public static ByteBuffer newHeader(int size){
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write a filled header at the start of the file, after the arrays (the header holds their checksum)
+     * @param channel the file
+     * @param header header buffer, filled up to its capacity
+     * @throws IOException when writing fails
+     */
+    public static void writeHeader(FileChannel channel, ByteBuffer header) throws IOException {
+        header.flip();
+        channel.position(0);
+        writeFully(channel, header);
+    }
+
+    /**
+     * @param channel the file
+     * @param size header size in bytes
+     * @return the header, little endian
+     * @throws IOException when the file is shorter than the header or can not be read
+     */
+    public static ByteBuffer readHeader(FileChannel channel, int size) throws IOException {
+        if (channel.size() < size){
+            throw new IOException("Error: file is too short for its header.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write values[0 ... length - 1] at the current position of channel and add their bytes to checksum
+     * @param channel the file
+     * @param buffer buffer from newBuffer
+     * @param checksum checksum of the arrays
+     * @param values the values
+     * @param length number of values to write
+     * @throws IOException when writing fails
+     */
+    public static void writeInts(FileChannel channel, ByteBuffer buffer, CRC32 checksum, int[] values, int length)
+            throws IOException {
+        int done = 0;
+        while (done < length){
+            buffer.clear();
+            int count = Math.min(length - done, buffer.capacity() / 4);
+            buffer.asIntBuffer().put(values, done, count);
+            buffer.limit(count * 4);
+            checksum.update(buffer.duplicate());
+            writeFully(channel, buffer);
+            done += count;
+        }
+    }
+
+    /**
+     * Copy length ints from the mapped file at position[0] and advance position[0]
+     * @param channel the file
+     * @param position file offset of the first int, advanced past the last one
+     * @param checksum checksum the bytes are added to, or null to skip it
+     * @param length number of values to read
+     * @return the values
+     * @throws IOException when the file is truncated or can not be read
+     */
+    public static int[] readInts(FileChannel channel, long[] position, CRC32 checksum, int length) throws IOException {
+        if (position[0] + 4L * length > channel.size()){
+            throw new IOException("Error: file is truncated.");
+        }
+        int[] values = new int[length];
+        int done = 0;
+        while (done < length){
+            int count = Math.min(length - done, CHUNK_SIZE / 4);
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position[0], 4L * count);
+            chunk.order(ByteOrder.LITTLE_ENDIAN);
+            if (checksum != null){
+                checksum.update(chunk.duplicate());
+            }
+            chunk.asIntBuffer().get(values, done, count);
+            position[0] += 4L * count;
+            done += count;
+        }
+        return values;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()){
+            channel.write(buffer);
+        }
+    }
+}
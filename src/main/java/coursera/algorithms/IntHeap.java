@@ -0,0 +1,127 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for StreamMedianFinder, SCCResult and IncrementalSCC.
+ *              This class is a binary heap of int values stored in a growable int array
+ *              (children of position i are 2i+1 and 2i+2). It is either a max heap (root value is max value)
+ *              or a min heap (root value is min value).
+ *              Values are never boxed, and sift up / sift down are loops that move entries into a hole
+ *              instead of swapping, so a push or pop does not allocate (except when the array grows).
+ **/
+public class IntHeap {
+    private final boolean maxHeap; //True for max heap, false for min heap
+    private int[] values;
+    private int size;
+
+    /**
+     * @param maxHeap true to build a max heap, false to build a min heap
+     * @param initialCapacity number of values the heap can hold before growing
+     */
+    public IntHeap(boolean maxHeap, int initialCapacity){
+        this.maxHeap = maxHeap;
+        values = new int[Math.max(2, initialCapacity)];
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public void clear(){
+        size = 0;
+    }
+
+    /**
+     * @return root value (max value of max heap, min value of min heap)
+     */
+    public int peek(){
+        if (size == 0){
+            throw new NoSuchElementException("Error: heap is empty.");
+        }
+        return values[0];
+    }
+
+    /**
+     * Insert a value and bubble it up
+     * @param value value to be inserted
+     */
+    public void push(int value){
+        if (size == values.length){
+            values = Arrays.copyOf(values, size + (size >> 1));
+        }
+        int idx = size++;
+        while (idx > 0){
+            int parentIdx = (idx - 1) >>> 1;
+            int parent = values[parentIdx];
+            if (!before(value, parent)){break;}
+            values[idx] = parent; //move parent down into the hole
+            idx = parentIdx;
+        }
+        values[idx] = value;
+    }
+
+    /**
+     * Extract the root value (root will be deleted) and percolate the last value down from the root
+     * @return root value
+     */
+    public int pop(){
+        int root = peek();
+        int last = values[--size];
+        int idx = 0;
+        int half = size >>> 1; //positions below half have at least one child
+        while (idx < half){
+            int childIdx = 2*idx + 1;
+            int child = values[childIdx];
+            int rightIdx = childIdx + 1;
+            if (rightIdx < size && before(values[rightIdx], child)){
+                childIdx = rightIdx;
+                child = values[rightIdx];
+            }
+            if (!before(child, last)){break;}
+            values[idx] = child; //move child up into the hole
+            idx = childIdx;
+        }
+        if (size > 0){
+            values[idx] = last;
+        }
+        return root;
+    }
+
+    /**
+     * Select the k largest values with a min heap of the k largest values seen so far
+     * @param values values to select from
+     * @param k number of values
+     * @return the k largest values in decreasing order, filled with 0 if there are less than k values
+     */
+    public static int[] largest(int[] values, int k){
+        IntHeap smallestOfTop = new IntHeap(false, k);
+        for (int value : values){
+            if (smallestOfTop.size() < k){
+                smallestOfTop.push(value);
+            }
+            else if (k > 0 && value > smallestOfTop.peek()){
+                smallestOfTop.pop();
+                smallestOfTop.push(value);
+            }
+        }
+        int[] top = new int[k];
+        for (int i = smallestOfTop.size() - 1; i >= 0; i--){
+            top[i] = smallestOfTop.pop();
+        }
+        return top;
+    }
+
+    /**
+     * @return true if value a belongs closer to the root than value b
+     */
+    private boolean before(int a, int b){
+        return maxHeap ? a > b : a < b;
+    }
+}
@@ -0,0 +1,413 @@
+package coursera.algorithms;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for StreamMedianFinder.
+ *              This class is a KLL quantile sketch (Karnin, Lang and Liberty, "Optimal Quantile Approximation
+ *              in Streams"). It answers the median and any other quantile of a stream within a rank error
+ *              epsilon (as a fraction of the stream length), using O(k log(n / k)) ints of memory instead of
+ *              keeping every number as the two heaps do.
+ *              Numbers are kept in levels of compactors. An item at level h stands for 2^h numbers.
+ *              When the sketch is full, the lowest full level is sorted and every other item (random offset)
+ *              is promoted to the next level, which halves the level while keeping the total weight.
+ *              Sketches of different threads or hosts can be merged, and written to / read from a stream.
+ *              A sketch is not thread-safe, each thread should update its own sketch and merge at the end.
+ **/
+public class KllQuantileSketch implements MedianEngine {
+    private static final int MIN_CAPACITY = 8; //Smallest capacity of any level
+    private static final double CAPACITY_DECAY = 2.0 / 3.0; //Each lower level has 2/3 the capacity of the one above
+    //Empirical single quantile rank error of KLL at 99% confidence: ERROR_FACTOR / k^ERROR_EXPONENT
+    private static final double ERROR_FACTOR = 2.296;
+    private static final double ERROR_EXPONENT = 0.9723;
+
+    private final int k; //Capacity of the top level, controls accuracy
+    private int[][] levels; //levels[h] holds items of weight 2^h, first levelSizes[h] entries are used
+    private int[] levelSizes;
+    private int numOfLevels;
+    private int numOfItems; //Items over all levels
+    private int maxNumOfItems; //Sum of level capacities, sketch is compressed when it is reached
+    private long count; //Number of numbers offered, equals the total weight of all items
+    private long randomState; //xorshift state for the compaction offset
+
+    //Sorted view used by quantile queries, rebuilt on the first query after an update
+    private long[] sortedItems; //(value << 8) | level, sorted
+    private long[] cumulativeWeights; //Total weight of sortedItems[0 ... i]
+    private boolean viewValid;
+
+    /**
+     * @param k accuracy parameter, rank error is about 1.65% for k = 200
+     */
+    public KllQuantileSketch(int k){
+        this(k, 0x9E3779B97F4A7C15L ^ System.nanoTime());
+    }
+
+    /**
+     * @param k accuracy parameter
+     * @param seed seed of the compaction offsets, the same seed and input give the same sketch
+     */
+    KllQuantileSketch(int k, long seed){
+        if (k < MIN_CAPACITY){
+            throw new IllegalArgumentException("Error: k must be at least " + MIN_CAPACITY);
+        }
+        this.k = k;
+        levels = new int[1][];
+        levelSizes = new int[1];
+        numOfLevels = 1;
+        levels[0] = new int[capacity(0)];
+        maxNumOfItems = capacity(0);
+        randomState = (seed == 0) ? 0x9E3779B97F4A7C15L : seed; //xorshift state must not be 0
+    }
+
+    /**
+     * Build a sketch whose rank error is at most epsilon with 99% probability
+     * (empirical bound of KLL: epsilon = 2.296 / k^0.9723, see getRankError)
+     * @param epsilon rank error as a fraction of stream length, e.g. 0.01 for 1%
+     * @return the sketch
+     */
+    public static KllQuantileSketch forError(double epsilon){
+        if (epsilon <= 0 || epsilon >= 1){
+            throw new IllegalArgumentException("Error: epsilon must be in (0, 1).");
+        }
+        int k = (int) Math.ceil(Math.pow(ERROR_FACTOR / epsilon, 1 / ERROR_EXPONENT));
+        return new KllQuantileSketch(Math.max(MIN_CAPACITY, k));
+    }
+
+    @Override
+    public void offer(int number){
+        if (levelSizes[0] == levels[0].length){
+            levels[0] = Arrays.copyOf(levels[0], levels[0].length * 2);
+        }
+        levels[0][levelSizes[0]++] = number;
+        numOfItems++;
+        count++;
+        viewValid = false;
+        if (numOfItems >= maxNumOfItems){
+            compress();
+        }
+    }
+
+    /**
+     * @return the ((k+1)/2)th smallest number if k numbers were offered and k is odd, the (k/2)th if even
+     *         (approximately, within the rank error of the sketch)
+     */
+    @Override
+    public int currentMedian(){
+        return itemOfRank((count + 1) / 2);
+    }
+
+    /**
+     * @param q quantile in [0, 1], e.g. 0.99 for p99
+     * @return number whose rank is approximately ceil(q * count)
+     */
+    public int quantile(double q){
+        if (q < 0 || q > 1){
+            throw new IllegalArgumentException("Error: quantile must be in [0, 1].");
+        }
+        return itemOfRank(Math.max(1, (long) Math.ceil(q * count)));
+    }
+
+    /**
+     * @param value a number
+     * @return approximate fraction of offered numbers that are smaller than or equal to value
+     */
+    public double rank(int value){
+        buildView();
+        int idx = Arrays.binarySearch(sortedItems, 0, numOfItems, ((long) value << 8) | 0xff);
+        int insertion = (idx >= 0) ? idx + 1 : -idx - 1;
+        return (insertion == 0) ? 0 : (double) cumulativeWeights[insertion - 1] / count;
+    }
+
+    public long count(){
+        return count;
+    }
+
+    public int getK(){
+        return k;
+    }
+
+    /**
+     * @return rank error of any single quantile (and of the median) as a fraction of count(), which holds with
+     *         99% probability. It depends on k only, so it also holds after merges: see merge.
+     */
+    @Override
+    public double getRankError(){
+        return ERROR_FACTOR / Math.pow(k, ERROR_EXPONENT);
+    }
+
+    /**
+     * @return number of ints currently stored, which is the memory use of the sketch
+     */
+    public int getNumOfItems(){
+        return numOfItems;
+    }
+
+    /**
+     * Add every number summarized by another sketch to this sketch. The other sketch is not changed.
+     * Both sketches should have the same k. The merged sketch answers quantiles of the combined stream within
+     * the same getRankError() as a single sketch that saw the combined stream: a compaction errs by at most the
+     * weight of one item of its level whichever stream the items came from, and the levels keep their
+     * capacities, so merging adds no error term of its own. The error is not divided among the inputs,
+     * merging p sketches of error epsilon gives error epsilon, not epsilon / p.
+     * @param other the sketch to merge in, usually filled by another thread or host
+     */
+    public void merge(KllQuantileSketch other){
+        while (numOfLevels < other.numOfLevels){
+            addLevel();
+        }
+        for (int h = 0; h < other.numOfLevels; h++){
+            int otherSize = other.levelSizes[h];
+            if (levelSizes[h] + otherSize > levels[h].length){
+                levels[h] = Arrays.copyOf(levels[h], Math.max(levels[h].length * 2, levelSizes[h] + otherSize));
+            }
+            System.arraycopy(other.levels[h], 0, levels[h], levelSizes[h], otherSize);
+            levelSizes[h] += otherSize;
+            numOfItems += otherSize;
+        }
+        count += other.count;
+        viewValid = false;
+        while (numOfItems >= maxNumOfItems){
+            compress();
+        }
+    }
+
+    /**
+     * Write the sketch so it can be sent to another host and merged there
+     * @param out data output
+     * @throws IOException when writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(k);
+        out.writeLong(count);
+        out.writeInt(numOfLevels);
+        for (int h = 0; h < numOfLevels; h++){
+            out.writeInt(levelSizes[h]);
+            for (int i = 0; i < levelSizes[h]; i++){
+                out.writeInt(levels[h][i]);
+            }
+        }
+    }
+
+    /**
+     * Read a sketch written by writeTo
+     * @param in data input
+     * @return the sketch
+     * @throws IOException when reading fails
+     */
+    public static KllQuantileSketch readFrom(DataInput in) throws IOException {
+        KllQuantileSketch sketch = new KllQuantileSketch(in.readInt());
+        sketch.count = in.readLong();
+        int numOfLevels = in.readInt();
+        while (sketch.numOfLevels < numOfLevels){
+            sketch.addLevel();
+        }
+        for (int h = 0; h < numOfLevels; h++){
+            int size = in.readInt();
+            if (size > sketch.levels[h].length){
+                sketch.levels[h] = new int[size];
+            }
+            for (int i = 0; i < size; i++){
+                sketch.levels[h][i] = in.readInt();
+            }
+            sketch.levelSizes[h] = size;
+            sketch.numOfItems += size;
+        }
+        return sketch;
+    }
+
+    /**
+     * Capacity of level h. The top level has capacity k and each level below 2/3 of the one above.
+     */
+    private int capacity(int h){
+        int depth = numOfLevels - 1 - h;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void addLevel(){
+        levels = Arrays.copyOf(levels, numOfLevels + 1);
+        levelSizes = Arrays.copyOf(levelSizes, numOfLevels + 1);
+        numOfLevels++;
+        levels[numOfLevels - 1] = new int[capacity(numOfLevels - 1)];
+        maxNumOfItems = 0;
+        for (int h = 0; h < numOfLevels; h++){
+            maxNumOfItems += capacity(h);
+        }
+    }
+
+    /**
+     * Compact the lowest level that is at capacity: sort it and promote every other item to the level above.
+     * If the level has an odd number of items, the smallest one stays behind so total weight is kept.
+     */
+    private void compress(){
+        for (int h = 0; h < numOfLevels; h++){
+            if (levelSizes[h] < capacity(h)){continue;}
+            if (h + 1 == numOfLevels){
+                addLevel();
+            }
+            int[] level = levels[h];
+            int size = levelSizes[h];
+            Arrays.sort(level, 0, size);
+            int keep = size & 1; //odd item count: keep level[0] behind
+            int promoted = (size - keep) / 2;
+            int above = levelSizes[h + 1];
+            if (above + promoted > levels[h + 1].length){
+                levels[h + 1] = Arrays.copyOf(levels[h + 1], Math.max(levels[h + 1].length * 2, above + promoted));
+            }
+            int offset = nextRandomBit(); //promote items at even or odd positions (after the kept one)
+            for (int i = keep + offset; i < size; i += 2){
+                levels[h + 1][above++] = level[i];
+            }
+            levelSizes[h + 1] = above;
+            levelSizes[h] = keep;
+            numOfItems -= size - keep - promoted;
+            return;
+        }
+    }
+
+    private int nextRandomBit(){
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState & 1);
+    }
+
+    /**
+     * @param rank 1-based rank in the stream
+     * @return the smallest item whose cumulative weight reaches rank
+     */
+    private int itemOfRank(long rank){
+        if (count == 0){
+            throw new IllegalStateException("Error: sketch is empty.");
+        }
+        buildView();
+        int lo = 0;
+        int hi = numOfItems - 1;
+        while (lo < hi){ //first position with cumulative weight >= rank
+            int mid = (lo + hi) >>> 1;
+            if (cumulativeWeights[mid] < rank){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+        return (int) (sortedItems[lo] >> 8);
+    }
+
+    private void buildView(){
+        if (viewValid){
+            return;
+        }
+        if (sortedItems == null || sortedItems.length < numOfItems){
+            sortedItems = new long[Math.max(numOfItems, maxNumOfItems)];
+            cumulativeWeights = new long[sortedItems.length];
+        }
+        int n = 0;
+        for (int h = 0; h < numOfLevels; h++){
+            for (int i = 0; i < levelSizes[h]; i++){
+                sortedItems[n++] = ((long) levels[h][i] << 8) | h; //value order first, level in low bits
+            }
+        }
+        Arrays.sort(sortedItems, 0, n);
+        long total = 0;
+        for (int i = 0; i < n; i++){
+            total += 1L << (sortedItems[i] & 0xff);
+            cumulativeWeights[i] = total;
+        }
+        viewValid = true;
+    }
+
+    /**
+     * @return number of entries of sorted array that are smaller than or equal to value
+     */
+    private static int upperBound(int[] sorted, int value){
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Compare the sketch with the exact two heaps on the assignment data: medians of every prefix,
+     * p50 / p90 / p99 of the whole stream, memory and time per number.
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        String inputFileName = (args.length > 0) ? args[0] : "data/Median.txt";
+        int[] numbers = new int[16];
+        int size = 0;
+        try (MappedInputReader reader = new MappedInputReader(inputFileName)){
+            while (reader.hasNext()){
+                if (size == numbers.length){
+                    numbers = Arrays.copyOf(numbers, size * 2);
+                }
+                numbers[size++] = reader.nextInt();
+            }
+        }
+        catch (IOException e){
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+        numbers = Arrays.copyOf(numbers, size);
+        int[] sorted = numbers.clone();
+        Arrays.sort(sorted);
+
+        for (double epsilon : new double[]{0.05, 0.01, 0.005}){
+            TwoHeapMedian exact = new TwoHeapMedian(size);
+            KllQuantileSketch sketch = KllQuantileSketch.forError(epsilon);
+            long exactSum = 0;
+            long sketchSum = 0;
+            for (int number : numbers){
+                exact.offer(number);
+                sketch.offer(number);
+                exactSum += exact.currentMedian();
+                sketchSum += sketch.currentMedian();
+            }
+            System.out.println("epsilon " + epsilon + " (k = " + sketch.getK() + ", " + sketch.getNumOfItems()
+                    + " ints stored for " + size + " numbers)");
+            System.out.println("    median sum exact " + exactSum + ", sketch " + sketchSum
+                    + ", relative error " + Math.abs(sketchSum - exactSum) / (double) exactSum);
+            for (double q : new double[]{0.5, 0.9, 0.99}){
+                int exactValue = sorted[Math.max(0, (int) Math.ceil(q * size) - 1)];
+                int sketchValue = sketch.quantile(q);
+                int trueRank = upperBound(sorted, sketchValue); //numbers <= sketchValue in the stream
+                System.out.println("    p" + Math.round(q * 100) + " exact " + exactValue + ", sketch " + sketchValue
+                        + ", rank error " + Math.abs((double) trueRank / size - q));
+            }
+        }
+
+        int rounds = Math.max(1, 10000000 / Math.max(1, size)); //about 10M numbers per engine
+        for (int warmup = 0; warmup < 2; warmup++){
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++){
+                TwoHeapMedian exact = new TwoHeapMedian(size);
+                for (int number : numbers){
+                    exact.offer(number);
+                }
+            }
+            long exactTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++){
+                KllQuantileSketch sketch = KllQuantileSketch.forError(0.01);
+                for (int number : numbers){
+                    sketch.offer(number);
+                }
+                sketch.currentMedian();
+            }
+            long sketchTime = System.nanoTime() - start;
+            System.out.println("ns per number: exact heaps " + (double) exactTime / rounds / size
+                    + ", sketch " + (double) sketchTime / rounds / size);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package coursera.algorithms;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DijkstraShortestPathFinder and AltSearcher.
+ *              This class is the preprocessing of ALT (A*, landmarks, triangle inequality, Goldberg and Harrelson):
+ *              the shortest path lengths from and to K landmark vertices. By the triangle inequality, for every
+ *              landmark L,  d(v,t) >= d(L,t) - d(L,v)  and  d(v,t) >= d(v,L) - d(t,L),  so the largest of these
+ *              is a lower bound of the remaining distance that A* can use to go towards the target.
+ *              Landmarks are picked by farthest selection: each new landmark is the vertex farthest from the
+ *              landmarks chosen so far (vertices no landmark reaches first), so they spread to the border.
+ *              A vertex is never picked twice, even when zero-length edges put other vertices at distance 0.
+ *              The tables are two int arrays of size K * n, with the K values of one vertex next to each other,
+ *              so a bound reads two short runs. They can be saved to a file and loaded back with the graph,
+ *              through IntArrayFile like a GraphSnapshot: little endian header with the CRC32 of the body.
+ *              The graph is never modified and the tables are read-only, so an index can be shared by threads.
+ *              All vertices are vertex index (ID - 1).
+ **/
+public class LandmarkIndex {
+    public static final int NO_PATH = Integer.MAX_VALUE; //Table value and bound when there is no path
+    private static final int MAGIC = 0x4C544C41; //"ALTL" in little endian
+    private static final int VERSION = 2; //Version 2 adds the CRC32 of the body to the header
+    private static final int HEADER_SIZE = 32;
+
+    private final int numOfVertices;
+    private final int numOfLandmarks;
+    private final int[] landmarks; //Vertex index of each landmark
+    private final int[] fromLandmark; //fromLandmark[v * K + i] = d(landmark i, v), NO_PATH if not reachable
+    private final int[] toLandmark; //toLandmark[v * K + i] = d(v, landmark i), NO_PATH if not reachable
+
+    private LandmarkIndex(int numOfVertices, int[] landmarks, int[] fromLandmark, int[] toLandmark){
+        this.numOfVertices = numOfVertices;
+        this.numOfLandmarks = landmarks.length;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Pick landmarks and compute their distance tables, 2 * K single source searches
+     * @param graph the graph with edge lengths as weights, lengths must not be negative
+     * @param reversed the reversed graph
+     * @param numOfLandmarks number of landmarks K (at most the number of vertices)
+     * @return the index
+     */
+    public static LandmarkIndex build(CompactGraph graph, CompactGraph reversed, int numOfLandmarks){
+        int n = graph.getNumOfVertices();
+        if (numOfLandmarks < 1 || numOfLandmarks > n){
+            throw new IllegalArgumentException("Error: number of landmarks must be in 1 ... " + n + ".");
+        }
+        if ((long) numOfLandmarks * n > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Error: too many landmarks for a graph of " + n + " vertices.");
+        }
+        if (graph.getMinWeight() < 0){
+            throw new IllegalArgumentException("Error: edge lengths must not be negative.");
+        }
+        int[] landmarks = new int[numOfLandmarks];
+        int[] fromLandmark = new int[numOfLandmarks * n];
+        int[] toLandmark = new int[numOfLandmarks * n];
+        ShortestPathSearcher forward = new ShortestPathSearcher(graph);
+        ShortestPathSearcher backward = new ShortestPathSearcher(reversed);
+        int[] distances = new int[n];
+        long[] nearest = new long[n]; //Distance of each vertex from the closest landmark chosen so far
+        boolean[] isLandmark = new boolean[n];
+
+        //start from the vertex farthest from vertex 0, like the first step of a double sweep
+        forward.search(0);
+        forward.copyDistances(distances, NO_PATH);
+        int next = farthest(distances);
+        Arrays.fill(nearest, Long.MAX_VALUE);
+        for (int i = 0; i < numOfLandmarks; i++){
+            landmarks[i] = next;
+            isLandmark[next] = true;
+            forward.search(next);
+            forward.copyDistances(distances, NO_PATH);
+            for (int v = 0; v < n; v++){
+                fromLandmark[v * numOfLandmarks + i] = distances[v];
+                if (distances[v] != NO_PATH){
+                    nearest[v] = Math.min(nearest[v], distances[v]);
+                }
+            }
+            backward.search(next);
+            backward.copyDistances(distances, NO_PATH);
+            for (int v = 0; v < n; v++){
+                toLandmark[v * numOfLandmarks + i] = distances[v];
+            }
+            //next landmark: the vertex farthest from all landmarks, unreached vertices first
+            long best = -1;
+            for (int v = 0; v < n; v++){
+                if (!isLandmark[v] && nearest[v] > best){
+                    best = nearest[v];
+                    next = v;
+                }
+            }
+        }
+        return new LandmarkIndex(n, landmarks, fromLandmark, toLandmark);
+    }
+
+    private static int farthest(int[] distances){
+        int farthest = 0;
+        for (int v = 0; v < distances.length; v++){
+            if (distances[v] != NO_PATH && distances[v] > distances[farthest]){
+                farthest = v;
+            }
+        }
+        return farthest;
+    }
+
+    public int getNumOfVertices(){
+        return numOfVertices;
+    }
+
+    public int getNumOfLandmarks(){
+        return numOfLandmarks;
+    }
+
+    /**
+     * @return vertex index of each landmark (a copy)
+     */
+    public int[] getLandmarks(){
+        return landmarks.clone();
+    }
+
+    /**
+     * Lower bound of the shortest path length from vertex to target. The bound is consistent
+     * (bound(v) <= length(v,w) + bound(w) for every edge), so A* with it settles each vertex once.
+     * @param vertex index of vertex
+     * @param target index of target vertex
+     * @return lower bound, or NO_PATH if the tables prove that target can not be reached from vertex
+     */
+    public int lowerBound(int vertex, int target){
+        int base = vertex * numOfLandmarks;
+        int targetBase = target * numOfLandmarks;
+        int bound = 0;
+        for (int i = 0; i < numOfLandmarks; i++){
+            int fromToVertex = fromLandmark[base + i];
+            int fromToTarget = fromLandmark[targetBase + i];
+            if (fromToTarget != NO_PATH){
+                if (fromToVertex != NO_PATH){
+                    bound = Math.max(bound, fromToTarget - fromToVertex);
+                }
+            }
+            else if (fromToVertex != NO_PATH){ //landmark reaches vertex but not target
+                return NO_PATH;
+            }
+            int vertexToLandmark = toLandmark[base + i];
+            int targetToLandmark = toLandmark[targetBase + i];
+            if (vertexToLandmark != NO_PATH){
+                if (targetToLandmark != NO_PATH){
+                    bound = Math.max(bound, vertexToLandmark - targetToLandmark);
+                }
+            }
+            else if (targetToLandmark != NO_PATH){ //target reaches landmark but vertex does not
+                return NO_PATH;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Write the index to a file (little endian header with magic, format version, numOfVertices, K, table size
+     * and CRC32 of the body, then landmarks and both tables)
+     * @param fileName the file name, overwritten if it exists
+     * @throws IOException when writing fails
+     */
+    public void save(String fileName) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = IntArrayFile.openForWrite(fileName)){
+            ByteBuffer buffer = IntArrayFile.newBuffer();
+            channel.position(HEADER_SIZE);
+            IntArrayFile.writeInts(channel, buffer, checksum, landmarks, landmarks.length);
+            IntArrayFile.writeInts(channel, buffer, checksum, fromLandmark, fromLandmark.length);
+            IntArrayFile.writeInts(channel, buffer, checksum, toLandmark, toLandmark.length);
+
+            ByteBuffer header = IntArrayFile.newHeader(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(numOfVertices).putInt(numOfLandmarks);
+            header.putLong((long) numOfVertices * numOfLandmarks);
+            header.putLong(checksum.getValue());
+            IntArrayFile.writeHeader(channel, header);
+        }
+    }
+
+    /**
+     * Read an index written by save
+     * @param fileName the file name
+     * @param graph the graph the index was built for, only its number of vertices is checked
+     * @return the index
+     * @throws FileNotFoundException when the file is not found
+     * @throws IOException when the file is not a landmark index of this graph, its checksum does not match
+     *                     or it can not be read
+     */
+    public static LandmarkIndex load(String fileName, CompactGraph graph) throws IOException {
+        try (FileChannel in = IntArrayFile.openForRead(fileName)){
+            if (in.size() < HEADER_SIZE){
+                throw new IOException("Error: " + fileName + " is not a landmark index.");
+            }
+            ByteBuffer header = IntArrayFile.readHeader(in, HEADER_SIZE);
+            if (header.getInt() != MAGIC){
+                throw new IOException("Error: " + fileName + " is not a landmark index.");
+            }
+            int version = header.getInt();
+            if (version != VERSION){
+                throw new IOException("Error: landmark index version " + version + " is not supported (expected "
+                        + VERSION + ").");
+            }
+            int n = header.getInt();
+            int k = header.getInt();
+            long tableSize = header.getLong();
+            long expectedChecksum = header.getLong();
+            if (n != graph.getNumOfVertices()){
+                throw new IOException("Error: landmark index has " + n + " vertices, the graph has "
+                        + graph.getNumOfVertices() + ".");
+            }
+            if (k < 1 || tableSize != (long) n * k || tableSize > Integer.MAX_VALUE
+                    || in.size() != HEADER_SIZE + 4L * (k + 2 * tableSize)){
+                throw new IOException("Error: landmark index is truncated or corrupted.");
+            }
+            CRC32 checksum = new CRC32();
+            long[] position = {HEADER_SIZE};
+            int[] landmarks = IntArrayFile.readInts(in, position, checksum, k);
+            int[] fromLandmark = IntArrayFile.readInts(in, position, checksum, (int) tableSize);
+            int[] toLandmark = IntArrayFile.readInts(in, position, checksum, (int) tableSize);
+            if (checksum.getValue() != expectedChecksum){
+                throw new IOException("Error: landmark index checksum does not match, the file is corrupted.");
+            }
+            return new LandmarkIndex(n, landmarks, fromLandmark, toLandmark);
+        }
+    }
+
+    /**
+     * Build an index for a graph of data/ (or the file given as first argument) with K landmarks (second argument,
+     * default 16), and compare the vertices settled by ALT and by Dijkstra with early exit on random queries
+     */
+    public static void main(String[] args) throws IOException {
+        String inputFileName = (args.length > 0) ? args[0] : "data/dijkstraData.txt";
+        int numOfLandmarks = (args.length > 1) ? Integer.parseInt(args[1]) : 16;
+        CompactGraph graph = new DijkstraShortestPathFinder(inputFileName).getGraph();
+        int n = graph.getNumOfVertices();
+
+        long start = System.nanoTime();
+        LandmarkIndex index = build(graph, graph.reverse(), Math.min(numOfLandmarks, n));
+        System.out.println("Landmarks: " + index.getNumOfLandmarks() + ", preprocessing ms: "
+                + (System.nanoTime() - start) / 1e6 + ", table bytes: " + 8L * n * index.getNumOfLandmarks());
+
+        AltSearcher alt = new AltSearcher(graph, index);
+        AltSearcher dijkstra = new AltSearcher(graph, null);
+        Random random = new Random(42);
+        int numOfQueries = 1000;
+        long altSettled = 0;
+        long dijkstraSettled = 0;
+        long altTime = 0;
+        long dijkstraTime = 0;
+        for (int q = 0; q < numOfQueries; q++){
+            int source = random.nextInt(n);
+            int target = random.nextInt(n);
+            long t0 = System.nanoTime();
+            int expected = dijkstra.searchTo(source, target);
+            long t1 = System.nanoTime();
+            int actual = alt.searchTo(source, target);
+            long t2 = System.nanoTime();
+            if (expected != actual){
+                throw new IllegalStateException("Error: ALT distance differs from Dijkstra.");
+            }
+            dijkstraSettled += dijkstra.getNumOfSettled();
+            altSettled += alt.getNumOfSettled();
+            dijkstraTime += t1 - t0;
+            altTime += t2 - t1;
+        }
+        System.out.println("Settled vertices per query, Dijkstra: " + dijkstraSettled / numOfQueries + ", ALT: "
+                + altSettled / numOfQueries + " (" + (double) dijkstraSettled / Math.max(1, altSettled) + "x fewer)");
+        System.out.println("Microseconds per query, Dijkstra: " + dijkstraTime / 1e3 / numOfQueries + ", ALT: "
+                + altTime / 1e3 / numOfQueries);
+    }
+}
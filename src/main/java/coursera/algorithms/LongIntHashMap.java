@@ -0,0 +1,151 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for VertexIdDictionary.
+ *              This class is a hash map from long keys to int values without boxing. Keys and values are
+ *              stored in two parallel arrays with open addressing (linear probing), and the table doubles
+ *              when it is 70% full. Long.MIN_VALUE marks an empty slot, so that key is kept in a separate field.
+ *              Entries can not be removed.
+ **/
+public class LongIntHashMap {
+    private static final long EMPTY = Long.MIN_VALUE; //Marks an empty slot
+    private static final double MAX_LOAD = 0.7;
+    private static final int MAX_CAPACITY = 1 << 30; //Largest power of 2 table size of a Java array
+
+    private long[] keys;
+    private int[] values;
+    private int mask; //Table size - 1, table size is a power of 2
+    private int size; //Number of keys in the table (not counting EMPTY key)
+    private boolean hasEmptyKey; //True if Long.MIN_VALUE was put
+    private int emptyKeyValue;
+
+    /**
+     * @param expectedSize number of keys the map can hold before growing (the table is at most 2^30 slots)
+     */
+    public LongIntHashMap(int expectedSize){
+        int capacity = capacityFor(expectedSize);
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @param expectedSize number of keys
+     * @return table size: the smallest power of 2 above expectedSize / MAX_LOAD, at most 2^30
+     */
+    static int capacityFor(int expectedSize){
+        //clamped after the shift, an int shift of 2^30 would overflow to Integer.MIN_VALUE
+        long slots = Long.highestOneBit(Math.max(4, (long) (expectedSize / MAX_LOAD))) << 1;
+        return (int) Math.min(MAX_CAPACITY, slots);
+    }
+
+    public int size(){
+        return size + (hasEmptyKey ? 1 : 0);
+    }
+
+    /**
+     * @param key the key
+     * @param defaultValue value returned when key is absent
+     * @return value of key, or defaultValue
+     */
+    public int get(long key, int defaultValue){
+        if (key == EMPTY){
+            return hasEmptyKey ? emptyKeyValue : defaultValue;
+        }
+        for (int slot = slotOf(key); keys[slot] != EMPTY; slot = (slot + 1) & mask){
+            if (keys[slot] == key){
+                return values[slot];
+            }
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key){
+        if (key == EMPTY){
+            return hasEmptyKey;
+        }
+        for (int slot = slotOf(key); keys[slot] != EMPTY; slot = (slot + 1) & mask){
+            if (keys[slot] == key){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param key the key
+     * @param value the value
+     */
+    public void put(long key, int value){
+        insert(key, value, true);
+    }
+
+    /**
+     * @param key the key
+     * @param value value to put if key is absent
+     * @return existing value of key, or value if it was put
+     */
+    public int putIfAbsent(long key, int value){
+        return insert(key, value, false);
+    }
+
+    private int insert(long key, int value, boolean overwrite){
+        if (key == EMPTY){
+            if (!hasEmptyKey || overwrite){
+                hasEmptyKey = true;
+                emptyKeyValue = value;
+            }
+            return emptyKeyValue;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY){
+            if (keys[slot] == key){
+                if (overwrite){
+                    values[slot] = value;
+                }
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > MAX_LOAD * keys.length){
+            grow();
+        }
+        return value;
+    }
+
+    private void grow(){
+        if (keys.length == MAX_CAPACITY){
+            throw new IllegalStateException("Error: too many keys for hash map.");
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++){
+            if (oldKeys[i] == EMPTY){continue;}
+            int slot = slotOf(oldKeys[i]);
+            while (keys[slot] != EMPTY){
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Spread the bits of key (multiply by 2^64 / golden ratio, then fold high bits into low bits)
+     */
+    private int slotOf(long key){
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,190 @@
+package coursera.algorithms;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class shared by the input loaders of all assignments.
+ *              This class memory-maps a text file with FileChannel.map and parses ASCII integers straight
+ *              from the mapped bytes, so no String or Scanner object is created per number.
+ *              Tokens are separated by whitespace. A single ',' right after a number is also treated as
+ *              separator, so "141,8200" tuples in dijkstraData.txt are read as two integers.
+ *              Files larger than 2GB are mapped window by window.
+ **/
+public class MappedInputReader implements Closeable {
+    private static final long WINDOW_SIZE = 1L << 26; //Map 64MB of the file at a time
+    private static final int PROGRESS_STEPS = 10; //Print loading progress every 10% of the file
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer window; //Currently mapped part of the file
+    private long windowStart; //File offset of the first byte in window
+    private String progressLabel; //Null if progress should not be reported
+    private long nextProgressOffset; //File offset at which the next progress line is printed
+
+    /**
+     * Open and map the input file
+     * @param inputFileName the file name of data file
+     * @throws FileNotFoundException when file is not found or can not be mapped
+     */
+    public MappedInputReader(String inputFileName) throws FileNotFoundException {
+        try{
+            channel = FileChannel.open(Paths.get(inputFileName), StandardOpenOption.READ);
+            fileSize = channel.size();
+            windowStart = 0;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(WINDOW_SIZE, fileSize));
+        }
+        catch (IOException e){
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+    }
+
+    /**
+     * Print a progress line each time another 10% of the file has been read
+     * @param label text printed in front of the percentage, e.g. "Loading file"
+     */
+    public void reportProgress(String label){
+        progressLabel = label;
+        nextProgressOffset = position();
+    }
+
+    /**
+     * @return current offset in file
+     */
+    public long position(){
+        return windowStart + window.position();
+    }
+
+    public long size(){
+        return fileSize;
+    }
+
+    /**
+     * Skip whitespace (including line breaks)
+     * @return true if there is another token in the file
+     */
+    public boolean hasNext(){
+        int b = peek();
+        while (b == ' ' || b == '\t' || b == '\n' || b == '\r'){
+            window.get();
+            b = peek();
+        }
+        if (progressLabel != null && position() >= nextProgressOffset){
+            printProgress();
+        }
+        return b != -1;
+    }
+
+    /**
+     * Skip spaces and tabs, but not line breaks
+     * @return true if there is another token on the current line
+     */
+    public boolean hasNextOnLine(){
+        int b = peek();
+        while (b == ' ' || b == '\t'){
+            window.get();
+            b = peek();
+        }
+        return b != -1 && b != '\n' && b != '\r';
+    }
+
+    /**
+     * Parse the next integer. A ',' directly after the number is consumed as well.
+     * @return the next integer
+     * @throws InputMismatchException if the next token is not an integer in int range
+     */
+    public int nextInt(){
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE){
+            throw new InputMismatchException("Error: value " + value + " is out of int range.");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse the next long integer. A ',' directly after the number is consumed as well.
+     * @return the next long integer
+     * @throws InputMismatchException if the next token is not an integer in long range
+     */
+    public long nextLong(){
+        if (!hasNext()){
+            throw new NoSuchElementException("Error: no more numbers in input file.");
+        }
+        long start = position();
+        boolean negative = false;
+        int b = peek();
+        if (b == '-' || b == '+'){
+            negative = (b == '-');
+            window.get();
+            b = peek();
+        }
+        if (b < '0' || b > '9'){
+            throw new InputMismatchException("Error: number expected at file offset " + position());
+        }
+        //accumulated as a negative number, which reaches one further than a positive one (Long.MIN_VALUE)
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        while (b >= '0' && b <= '9'){
+            window.get();
+            int digit = b - '0';
+            if (value < (limit + digit) / 10){
+                throw new InputMismatchException("Error: number at file offset " + start + " is out of long range.");
+            }
+            value = value * 10 - digit;
+            b = peek();
+        }
+        if (b == ','){ //separator of tuples such as "141,8200"
+            window.get();
+        }
+        else if (b != -1 && b != ' ' && b != '\t' && b != '\n' && b != '\r'){
+            throw new InputMismatchException("Error: unexpected character at file offset " + position());
+        }
+        return negative ? value : -value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Look at the next byte without consuming it. Maps the next window of the file when needed.
+     * @return next byte (0 to 255), or -1 at end of file
+     */
+    private int peek(){
+        if (!window.hasRemaining() && !nextWindow()){
+            return -1;
+        }
+        return window.get(window.position()) & 0xff;
+    }
+
+    private boolean nextWindow(){
+        long nextStart = windowStart + window.limit();
+        if (nextStart >= fileSize){
+            return false;
+        }
+        try{
+            window = channel.map(FileChannel.MapMode.READ_ONLY, nextStart, Math.min(WINDOW_SIZE, fileSize - nextStart));
+            windowStart = nextStart;
+        }
+        catch (IOException e){
+            throw new UncheckedIOException("Error: failed to map input file.", e);
+        }
+        return true;
+    }
+
+    private void printProgress(){
+        long step = Math.max(1, fileSize / PROGRESS_STEPS);
+        System.out.println(progressLabel + " " + (double)100*(double)position()/(double)Math.max(1, fileSize) + "%...");
+        nextProgressOffset = (position() / step + 1) * step;
+    }
+}
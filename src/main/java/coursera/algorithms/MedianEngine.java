@@ -0,0 +1,29 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper interface for StreamMedianFinder.
+ *              A median engine keeps whatever state it needs to answer the median of the numbers it was
+ *              offered. StreamMedianFinder reads the stream and feeds one engine.
+ **/
+public interface MedianEngine {
+    /**
+     * Add the next number of the stream
+     * @param number the number
+     */
+    void offer(int number);
+
+    /**
+     * @return median of the numbers the engine currently covers
+     *         ((k+1)/2 th smallest if k is odd, k/2 th smallest if even)
+     */
+    int currentMedian();
+
+    /**
+     * @return largest rank error of currentMedian as a fraction of the numbers covered (for a sketch, the bound
+     *         that holds with 99% probability), 0 if the median is exact
+     */
+    default double getRankError(){
+        return 0;
+    }
+}
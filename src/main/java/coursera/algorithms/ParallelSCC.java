@@ -0,0 +1,315 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder.
+ *              This class finds the strongly connected components (SCC) of a CompactGraph on a ForkJoinPool,
+ *              with the forward-backward algorithm (Fleischer, Hendrickson and Pinar) and trimming:
+ *              1. Trim: a vertex with no in-edge or no out-edge inside the remaining graph is an SCC by itself.
+ *                 Vertices are checked in parallel, for a few rounds, because trimming one exposes others.
+ *              2. Forward-backward: pick a random pivot of a subproblem, find the vertices it reaches (FW)
+ *                 and the vertices that reach it (BW) by level-synchronous parallel BFS. FW and BW together
+ *                 is the SCC of the pivot (for SCC.txt the giant component), and FW only, BW only and the
+ *                 rest are three independent subproblems that are solved as parallel fork/join tasks.
+ *              Each vertex holds the color of the subproblem it belongs to, and a BFS claims a vertex by
+ *              compare-and-set of its color, so concurrent subproblems never touch each other's vertices.
+ *              Small subproblems are solved by TarjanSCC restricted to their vertices.
+ *              The SCCs are the same as those of the sequential algorithms. Component IDs are numbered in order
+ *              of the smallest vertex of each component, so the result does not depend on thread timing.
+ **/
+public class ParallelSCC {
+    private static final int TRIMMED = -1; //Color of a vertex trimmed as a single vertex SCC
+    private static final int DONE = -2; //Color of a vertex whose SCC is found
+    private static final int MAX_TRIM_ROUNDS = 16;
+    private static final int TRIM_CHUNK_SIZE = 1 << 14; //Vertices checked by one trim task
+    private static final int FRONTIER_CHUNK_SIZE = 1 << 10; //Frontier vertices expanded by one BFS task
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12; //Subproblems up to this size run Tarjan
+
+    private final CompactGraph graph;
+    private final CompactGraph reversed;
+    private final AtomicIntegerArray color; //Subproblem of each vertex index, TRIMMED or DONE when its SCC is found
+    private final int[] representative; //A vertex index of the SCC of each vertex, written by the owning task
+    private final int[] localIndex; //Position of a vertex in its subproblem, used by TarjanSCC on small ones
+    private final AtomicInteger nextColor = new AtomicInteger(1); //Color 0 is the whole graph
+    private final int[] component;
+    private int numOfComponents;
+
+    /**
+     * Find the SCCs of graph
+     * @param graph the graph, vertex index is ID - 1
+     * @param reversed the reversed graph, for the backward searches
+     * @param pool the pool to run on
+     */
+    public ParallelSCC(CompactGraph graph, CompactGraph reversed, ForkJoinPool pool){
+        this.graph = graph;
+        this.reversed = reversed;
+        int n = graph.getNumOfVertices();
+        color = new AtomicIntegerArray(n);
+        representative = new int[n];
+        localIndex = new int[n];
+
+        for (int round = 0; round < MAX_TRIM_ROUNDS; round++){
+            if (pool.invoke(new TrimTask(0, n)) == 0){break;}
+        }
+        int numOfRemaining = 0;
+        int[] remaining = new int[n];
+        for (int v = 0; v < n; v++){
+            if (color.get(v) == 0){
+                remaining[numOfRemaining++] = v;
+            }
+        }
+        if (numOfRemaining > 0){
+            pool.invoke(new SCCTask(Arrays.copyOf(remaining, numOfRemaining), 0));
+        }
+
+        //number components by their smallest vertex, every vertex of a component has the same representative
+        component = localIndex; //reused, no longer needed
+        int[] idOfRepresentative = remaining;
+        Arrays.fill(idOfRepresentative, -1);
+        for (int v = 0; v < n; v++){
+            int rep = representative[v];
+            if (idOfRepresentative[rep] == -1){
+                idOfRepresentative[rep] = numOfComponents++;
+            }
+            component[v] = idOfRepresentative[rep];
+        }
+    }
+
+    public int getNumOfComponents(){
+        return numOfComponents;
+    }
+
+    /**
+     * @return component ID for each vertex index (vertex ID - 1), numbered in order of smallest vertex
+     */
+    public int[] getComponent(){
+        return component;
+    }
+
+    /**
+     * @return number of vertices in each component
+     */
+    public int[] getComponentSizes(){
+        int[] sizes = new int[numOfComponents];
+        for (int c : component){
+            sizes[c]++;
+        }
+        return sizes;
+    }
+
+    /**
+     * @return true if v has an edge in graph g to another vertex that is not trimmed yet
+     */
+    private boolean hasUntrimmedNeighbor(CompactGraph g, int v){
+        int[] offsets = g.getOffsets();
+        int[] targets = g.getTargets();
+        for (int i = offsets[v]; i < offsets[v + 1]; i++){
+            int w = targets[i];
+            if (w != v && color.get(w) == 0){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One trim round over vertex indices [from, to), returns the number of vertices trimmed
+     */
+    private class TrimTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        TrimTask(int from, int to){
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from > TRIM_CHUNK_SIZE){
+                int mid = (from + to) >>> 1;
+                TrimTask left = new TrimTask(from, mid);
+                left.fork();
+                int right = new TrimTask(mid, to).compute();
+                return left.join() + right;
+            }
+            int trimmed = 0;
+            for (int v = from; v < to; v++){
+                if (color.get(v) != 0){continue;}
+                if (!hasUntrimmedNeighbor(graph, v) || !hasUntrimmedNeighbor(reversed, v)){
+                    //trimming a neighbor at the same time is safe, it only makes v more trimmable
+                    color.set(v, TRIMMED);
+                    representative[v] = v;
+                    trimmed++;
+                }
+            }
+            return trimmed;
+        }
+    }
+
+    /**
+     * Find the SCCs among members, the vertices that have color c
+     */
+    private class SCCTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] members;
+        private final int c;
+
+        SCCTask(int[] members, int c){
+            this.members = members;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (members.length <= SEQUENTIAL_THRESHOLD){
+                solveSequentially(members, c);
+                return;
+            }
+            int pivot = members[ThreadLocalRandom.current().nextInt(members.length)];
+            int fw = nextColor.getAndIncrement();
+            int bw = nextColor.getAndIncrement();
+            int scc = DONE;
+            color.set(pivot, fw);
+            int[] forward = breadthFirstSearch(graph, pivot, c, fw, -1, -1);
+            color.set(pivot, scc);
+            //backward: a vertex also reached forward is in the SCC of pivot, otherwise it is in BW only
+            int[] backward = breadthFirstSearch(reversed, pivot, fw, scc, c, bw);
+            for (int v : backward){
+                if (color.get(v) == scc){
+                    representative[v] = pivot;
+                }
+            }
+            representative[pivot] = pivot;
+            int[] fwOnly = withColor(forward, fw);
+            int[] bwOnly = withColor(backward, bw);
+            int[] rest = withColor(members, c);
+            invokeAll(new SCCTask(fwOnly, fw), new SCCTask(bwOnly, bw), new SCCTask(rest, c));
+        }
+    }
+
+    /**
+     * Run TarjanSCC on the subgraph of members, the vertices of color c, and take the first member of each
+     * component as its representative. Only the calling task touches these vertices.
+     */
+    private void solveSequentially(int[] members, int c){
+        TarjanSCC tarjan = new TarjanSCC(graph, members, v -> color.get(v) == c, localIndex);
+        int[] componentOf = tarjan.getComponent();
+        int[] firstMember = new int[tarjan.getNumOfComponents()];
+        Arrays.fill(firstMember, -1);
+        for (int i = 0; i < members.length; i++){
+            int comp = componentOf[i];
+            if (firstMember[comp] == -1){
+                firstMember[comp] = members[i];
+            }
+            representative[members[i]] = firstMember[comp];
+        }
+        for (int v : members){
+            color.set(v, DONE);
+        }
+    }
+
+    /**
+     * @return the vertices of list that have color c
+     */
+    private int[] withColor(int[] list, int c){
+        int[] result = new int[list.length];
+        int size = 0;
+        for (int v : list){
+            if (color.get(v) == c){
+                result[size++] = v;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Level-synchronous BFS from source in graph g. A vertex of color fromA is claimed by setting it to toA,
+     * a vertex of color fromB (if fromB is not -1) by setting it to toB. Only claimed vertices are expanded.
+     * @return every claimed vertex (source not included)
+     */
+    private int[] breadthFirstSearch(CompactGraph g, int source, int fromA, int toA, int fromB, int toB){
+        int[] visited = new int[16];
+        int numOfVisited = 0;
+        int[] frontier = {source};
+        while (frontier.length > 0){
+            int[] next = new FrontierTask(g, frontier, 0, frontier.length, fromA, toA, fromB, toB).compute();
+            if (numOfVisited + next.length > visited.length){
+                visited = Arrays.copyOf(visited, Math.max(visited.length * 2, numOfVisited + next.length));
+            }
+            System.arraycopy(next, 0, visited, numOfVisited, next.length);
+            numOfVisited += next.length;
+            frontier = next;
+        }
+        return Arrays.copyOf(visited, numOfVisited);
+    }
+
+    /**
+     * Expand frontier[from ... to - 1] and return the vertices claimed for the next level
+     */
+    private class FrontierTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final CompactGraph g;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+        private final int fromA, toA, fromB, toB;
+
+        FrontierTask(CompactGraph g, int[] frontier, int from, int to, int fromA, int toA, int fromB, int toB){
+            this.g = g;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.fromA = fromA;
+            this.toA = toA;
+            this.fromB = fromB;
+            this.toB = toB;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > FRONTIER_CHUNK_SIZE){
+                int mid = (from + to) >>> 1;
+                FrontierTask left = new FrontierTask(g, frontier, from, mid, fromA, toA, fromB, toB);
+                left.fork();
+                int[] right = new FrontierTask(g, frontier, mid, to, fromA, toA, fromB, toB).compute();
+                int[] leftResult = left.join();
+                int[] merged = Arrays.copyOf(leftResult, leftResult.length + right.length);
+                System.arraycopy(right, 0, merged, leftResult.length, right.length);
+                return merged;
+            }
+            int[] offsets = g.getOffsets();
+            int[] targets = g.getTargets();
+            int[] next = new int[16];
+            int size = 0;
+            for (int i = from; i < to; i++){
+                int v = frontier[i];
+                for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                    int w = targets[e];
+                    int wColor = color.get(w);
+                    boolean claimed = (wColor == fromA && color.compareAndSet(w, fromA, toA))
+                            || (fromB != -1 && wColor == fromB && color.compareAndSet(w, fromB, toB));
+                    if (claimed){
+                        if (size == next.length){
+                            next = Arrays.copyOf(next, size * 2);
+                        }
+                        next[size++] = w;
+                    }
+                }
+            }
+            return Arrays.copyOf(next, size);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package coursera.algorithms;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for ShortestPathSearcher.
+ *              This class is a radix heap (Ahuja, Mehlhorn, Orlin and Tarjan) for monotone use with non-negative
+ *              int keys: a key inserted or decreased to is never below the last extracted key. Bucket 0 holds the
+ *              items whose key equals the last extracted key, and bucket i (1 ... 32) the items whose key first
+ *              differs from it in bit i - 1. When bucket 0 is empty, the first non-empty bucket is emptied into
+ *              lower buckets relative to its smallest key, and every item only moves down, at most 32 times.
+ *              So any edge length range works with no comparisons between keys beyond that redistribution,
+ *              where DialQueue needs one bucket per possible length.
+ **/
+public class RadixHeap extends BucketQueue {
+    private static final int NUM_OF_BUCKETS = 33;
+
+    private int last; //Last extracted key (0 after clear), no key in the queue is smaller
+
+    /**
+     * @param capacity number of items, items are 0 to capacity - 1
+     */
+    public RadixHeap(int capacity){
+        super(capacity, NUM_OF_BUCKETS);
+    }
+
+    @Override
+    public void insert(int item, int key){
+        checkAbsent(item);
+        checkKey(key);
+        keys[item] = key;
+        link(item, bucketOf(key));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int item, int key){
+        if (key > keys[item]){
+            throw new IllegalArgumentException("Error: new key is larger than current key.");
+        }
+        checkKey(key);
+        keys[item] = key;
+        int bucket = bucketOf(key);
+        if (bucket != bucketOf[item]){
+            unlink(item);
+            link(item, bucket);
+        }
+    }
+
+    @Override
+    public int peekMin(){
+        if (size == 0){
+            throw new NoSuchElementException("Error: heap is empty.");
+        }
+        if (first(0) == -1){
+            int bucket = 1;
+            while (first(bucket) == -1){
+                bucket++;
+            }
+            int min = Integer.MAX_VALUE;
+            for (int item = first(bucket); item != -1; item = next(item)){
+                min = Math.min(min, keys[item]);
+            }
+            last = min;
+            //every item of the bucket goes to a lower bucket relative to the new last key
+            for (int item = first(bucket); item != -1; ){
+                int following = next(item);
+                unlink(item);
+                link(item, bucketOf(keys[item]));
+                item = following;
+            }
+        }
+        return first(0);
+    }
+
+    @Override
+    public int extractMin(){
+        int min = peekMin();
+        unlink(min);
+        size--;
+        return min;
+    }
+
+    @Override
+    public void clear(){
+        for (int bucket = 0; bucket < NUM_OF_BUCKETS && size > 0; bucket++){
+            size -= clearBucket(bucket);
+        }
+        last = 0;
+    }
+
+    private int bucketOf(int key){
+        return (key == last) ? 0 : 32 - Integer.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void checkKey(int key){
+        if (key < last){
+            throw new IllegalArgumentException("Error: key " + key + " is smaller than the last extracted key "
+                    + last + ".");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder.
+ *              This class holds the full result of an SCC decomposition: the component ID of every vertex,
+ *              the component sizes, and the condensation DAG (one vertex per component, one edge per pair of
+ *              components joined by at least one edge) in CSR form. Everything is built in O(n + m) with int
+ *              arrays, and the k largest sizes come from a bounded min heap of size k instead of a full sort.
+ *              The order of component IDs depends on the algorithm: reverse topological (component 0 has no
+ *              edge to another component) for Kosaraju and Tarjan, order of smallest vertex for the parallel one.
+ **/
+public class SCCResult {
+    private final CompactGraph graph; //The decomposed graph
+    private final int[] component; //component[i] is the component ID of vertex index i (vertex ID - 1)
+    private final int numOfComponents;
+    private int[] componentSizes; //Built on first use
+    private CompactGraph condensation; //Built on first use
+
+    /**
+     * @param graph the decomposed graph
+     * @param component component ID (0 ... numOfComponents - 1) of each vertex index
+     * @param numOfComponents number of components
+     */
+    public SCCResult(CompactGraph graph, int[] component, int numOfComponents){
+        this.graph = graph;
+        this.component = component;
+        this.numOfComponents = numOfComponents;
+    }
+
+    public int getNumOfComponents(){
+        return numOfComponents;
+    }
+
+    /**
+     * @return component ID for each vertex index (vertex ID - 1)
+     */
+    public int[] getComponent(){
+        return component;
+    }
+
+    /**
+     * @param vertexID vertex ID (1 ... n)
+     * @return component ID of the vertex
+     */
+    public int componentOf(int vertexID){
+        return component[vertexID - 1];
+    }
+
+    /**
+     * @return number of vertices in each component
+     */
+    public int[] getComponentSizes(){
+        if (componentSizes == null){
+            int[] sizes = new int[numOfComponents];
+            for (int c : component){
+                sizes[c]++;
+            }
+            componentSizes = sizes;
+        }
+        return componentSizes;
+    }
+
+    /**
+     * @param k number of sizes
+     * @return the k largest component sizes in decreasing order, filled with 0 if there are less than k components
+     */
+    public int[] topComponentSizes(int k){
+        return IntHeap.largest(getComponentSizes(), k);
+    }
+
+    /**
+     * @return condensation DAG, vertex index i is component i. Edges are distinct and have no weights.
+     */
+    public CompactGraph getCondensation(){
+        if (condensation == null){
+            condensation = buildCondensation();
+        }
+        return condensation;
+    }
+
+    private CompactGraph buildCondensation(){
+        int n = component.length;
+        //counting sort of vertices by component
+        int[] memberOffsets = new int[numOfComponents + 1];
+        for (int c : component){
+            memberOffsets[c + 1]++;
+        }
+        for (int c = 0; c < numOfComponents; c++){
+            memberOffsets[c + 1] += memberOffsets[c];
+        }
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(memberOffsets, numOfComponents);
+        for (int v = 0; v < n; v++){
+            members[fill[component[v]]++] = v;
+        }
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] lastSource = new int[numOfComponents]; //lastSource[d] = c + 1 once edge c -> d is added
+        int[] dagOffsets = new int[numOfComponents + 1];
+        int[] dagTargets = new int[16];
+        int numOfEdges = 0;
+        for (int c = 0; c < numOfComponents; c++){
+            for (int i = memberOffsets[c]; i < memberOffsets[c + 1]; i++){
+                int v = members[i];
+                for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                    int d = component[targets[e]];
+                    if (d == c || lastSource[d] == c + 1){continue;} //inside the component, or already added
+                    lastSource[d] = c + 1;
+                    if (numOfEdges == dagTargets.length){
+                        dagTargets = Arrays.copyOf(dagTargets, numOfEdges * 2);
+                    }
+                    dagTargets[numOfEdges++] = d;
+                }
+            }
+            dagOffsets[c + 1] = numOfEdges;
+        }
+        return new CompactGraph(numOfComponents, dagOffsets, Arrays.copyOf(dagTargets, numOfEdges), null);
+    }
+}
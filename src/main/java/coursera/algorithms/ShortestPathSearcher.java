@@ -0,0 +1,276 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for DijkstraShortestPathFinder.
+ *              This class holds the scratch state of one Dijkstra search (distance array and heap) over a
+ *              shared read-only CompactGraph. The graph is never modified, so any number of searchers can
+ *              run on the same graph at the same time, one searcher per thread.
+ *              A searcher is reused across searches: distances are tagged with the search round (epoch)
+ *              they were written in, so starting a new search does not clear the arrays.
+ *              The predecessor of every reached vertex is tracked as well, so the route itself can be
+ *              rebuilt and not just its length.
+ *              The frontier is a VertexQueue of one of three kinds, chosen from the edge lengths by chooseQueue:
+ *              Dial's buckets when the largest length is small and a radix heap for larger lengths.
+ *              The binary heap is only used when it is asked for, e.g. to compare the queues.
+ *              Negative lengths are rejected for every queue, Dijkstra's algorithm is not correct with them.
+ *              The two bucket queues need no key comparisons, which removes the log n of the binary heap.
+ *              Dial's extractMin also scans the empty keys between distances, a cost that grows with the largest
+ *              length. DIAL_MAX_WEIGHT comes from QueueBenchmark (ms per search, grids with lengths 1 ... L):
+ *                  10^4 vertices:    L = 4096 Dial 1.19, radix 1.66    L = 16384 Dial 1.79, radix 1.70
+ *                                    L = 65536 Dial 5.22, radix 1.71
+ *                  2.5 * 10^5 vertices: Dial ahead up to L = 65536 (52 vs 65), the gap shrinking with L
+ *              so Dial is chosen up to 4096, where it was ahead on both graphs.
+ *              Path lengths are int: a length above MAX_LENGTH is reported as MAX_LENGTH (see addLength),
+ *              it never wraps around.
+ *              All vertices are vertex index (ID - 1).
+ **/
+public class ShortestPathSearcher {
+    public static final int DIAL_MAX_WEIGHT = 1 << 12; //Largest edge length for which DialQueue is chosen
+    public static final int MAX_LENGTH = Integer.MAX_VALUE - 1; //Path lengths are capped here, Integer.MAX_VALUE
+                                                                //means not reached
+
+    public enum QueueType {BINARY_HEAP, DIAL, RADIX}
+
+    private final CompactGraph graph;
+    private final int[] distance; //Dijkstra score of each vertex, valid only if stamp[v] == epoch
+    private final int[] predecessor; //Previous vertex on the shortest path to v, valid only if stamp[v] == epoch
+    private final int[] stamp; //Search round in which distance[v] was last written
+    private final VertexQueue frontier; //Reached but not yet settled vertices keyed by Dijkstra score
+    private final QueueType queueType;
+    private int epoch;
+
+    /**
+     * Create a searcher with the queue chosen by chooseQueue(graph)
+     * @param graph the graph with edge lengths as weights, lengths must not be negative
+     */
+    public ShortestPathSearcher(CompactGraph graph){
+        this(graph, chooseQueue(graph));
+    }
+
+    /**
+     * @param graph the graph with edge lengths as weights, lengths must not be negative
+     * @param queueType kind of frontier queue. DIAL must only be used when no edge length is above
+     *                  DIAL_MAX_WEIGHT
+     */
+    public ShortestPathSearcher(CompactGraph graph, QueueType queueType){
+        if (!graph.hasWeights()){
+            throw new IllegalArgumentException("Error: shortest path search needs a weighted graph.");
+        }
+        if (graph.getMinWeight() < 0){
+            throw new IllegalArgumentException("Error: edge lengths must not be negative.");
+        }
+        this.graph = graph;
+        distance = new int[graph.getNumOfVertices()];
+        predecessor = new int[graph.getNumOfVertices()];
+        stamp = new int[graph.getNumOfVertices()];
+        this.queueType = queueType;
+        switch (queueType){
+            case DIAL:
+                frontier = new DialQueue(graph.getNumOfVertices(), Math.min(graph.getMaxWeight(), DIAL_MAX_WEIGHT));
+                break;
+            case RADIX:
+                frontier = new RadixHeap(graph.getNumOfVertices());
+                break;
+            default:
+                frontier = new IndexedMinHeap(graph.getNumOfVertices());
+        }
+    }
+
+    /**
+     * Choose the frontier queue from the range of edge lengths: DIAL if they are in 0 ... DIAL_MAX_WEIGHT,
+     * RADIX if some are larger
+     * @param graph the graph with edge lengths as weights
+     * @return the queue type
+     * @throws IllegalArgumentException when an edge length is negative
+     */
+    public static QueueType chooseQueue(CompactGraph graph){
+        if (graph.getMinWeight() < 0){
+            throw new IllegalArgumentException("Error: edge lengths must not be negative.");
+        }
+        return (graph.getMaxWeight() <= DIAL_MAX_WEIGHT) ? QueueType.DIAL : QueueType.RADIX;
+    }
+
+    /**
+     * Compute the shortest path from source to every vertex reachable from it
+     * @param source index of source vertex
+     */
+    public void search(int source){
+        start(source);
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        while (!frontier.isEmpty()){
+            int v = frontier.extractMin(); //distance[v] is final from here on
+            int score = distance[v];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                //settled vertices never pass this check because lengths are not negative (see constructor)
+                relax(v, targets[e], addLength(score, weights[e]));
+            }
+        }
+    }
+
+    /**
+     * Compute the shortest path from source to target only. The search stops as soon as target is
+     * settled, so only vertices closer to source than target are processed.
+     * @param source index of source vertex
+     * @param target index of target vertex
+     * @return shortest path length, Integer.MAX_VALUE if target can not be reached
+     */
+    public int searchTo(int source, int target){
+        start(source);
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        while (!frontier.isEmpty()){
+            int v = frontier.extractMin();
+            if (v == target){
+                return distance[v];
+            }
+            int score = distance[v];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                relax(v, targets[e], addLength(score, weights[e]));
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Compute the shortest path from source to target by searching forward from source (on the graph of
+     * forward searcher) and backward from target (on the reversed graph of backward searcher) at once.
+     * The side with the smaller frontier is expanded each step, and the search stops when the two
+     * smallest frontier scores add up to at least the best path found through a vertex reached by both.
+     * @param forward searcher on the graph
+     * @param backward searcher on the reversed graph
+     * @param source index of source vertex
+     * @param target index of target vertex
+     * @return the vertex where the shortest path is joined, or -1 if target can not be reached.
+     *         Its length is forward.distanceTo(meet) + backward.distanceTo(meet).
+     */
+    public static int bidirectionalSearch(ShortestPathSearcher forward, ShortestPathSearcher backward,
+                                          int source, int target){
+        forward.start(source);
+        backward.start(target);
+        long bestLength = (source == target) ? 0 : Long.MAX_VALUE;
+        int meet = (source == target) ? source : -1;
+        while (!forward.frontier.isEmpty() && !backward.frontier.isEmpty()){
+            long lowerBound = (long) forward.frontier.keyOf(forward.frontier.peekMin())
+                    + backward.frontier.keyOf(backward.frontier.peekMin());
+            if (lowerBound >= bestLength){ //no path through an unsettled vertex can be shorter
+                break;
+            }
+            boolean expandForward = forward.frontier.size() <= backward.frontier.size();
+            ShortestPathSearcher side = expandForward ? forward : backward;
+            ShortestPathSearcher other = expandForward ? backward : forward;
+            int[] offsets = side.graph.getOffsets();
+            int[] targets = side.graph.getTargets();
+            int[] weights = side.graph.getWeights();
+            int v = side.frontier.extractMin();
+            int score = side.distance[v];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++){
+                int w = targets[e];
+                if (side.relax(v, w, addLength(score, weights[e])) && other.stamp[w] == other.epoch){
+                    long length = (long) side.distance[w] + other.distance[w];
+                    if (length < bestLength){
+                        bestLength = length;
+                        meet = w;
+                    }
+                }
+            }
+        }
+        return meet;
+    }
+
+    /**
+     * Rebuild the route found by the last search
+     * @param target index of target vertex
+     * @return vertex indices on the shortest path from source to target (both included),
+     *         or an empty array if target was not reached
+     */
+    public int[] pathTo(int target){
+        if (stamp[target] != epoch){
+            return new int[0];
+        }
+        int length = 1;
+        for (int v = target; predecessor[v] != -1; v = predecessor[v]){
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = predecessor[v], i--){
+            path[i] = v;
+        }
+        return path;
+    }
+
+    /**
+     * @param vertex index of vertex
+     * @return shortest path length found by the last search, Integer.MAX_VALUE if not reached
+     */
+    public int distanceTo(int vertex){
+        return stamp[vertex] == epoch ? distance[vertex] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Copy the distances of the last search into an array
+     * @param output array of size n, output[v] is the distance of vertex index v
+     * @param noPathLength value written for vertices that were not reached
+     */
+    public void copyDistances(int[] output, int noPathLength){
+        for (int v = 0; v < output.length; v++){
+            output[v] = (stamp[v] == epoch) ? distance[v] : noPathLength;
+        }
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    /**
+     * Add an edge length to a path length in long, so a sum beyond int range does not wrap around to a
+     * negative score (which would break the monotone bucket queues and win every comparison)
+     * @param score path length, at most MAX_LENGTH
+     * @param length edge length, not negative
+     * @return score + length, or MAX_LENGTH if it is larger
+     */
+    public static int addLength(int score, int length){
+        return (int) Math.min((long) score + length, MAX_LENGTH);
+    }
+
+    /**
+     * Begin a new search round from source
+     */
+    private void start(int source){
+        frontier.clear();
+        epoch = EpochStamps.next(stamp, epoch);
+        distance[source] = 0;
+        predecessor[source] = -1;
+        stamp[source] = epoch;
+        frontier.insert(source, 0);
+    }
+
+    /**
+     * Lower the Dijkstra score of vertex w to score (reached through edge v->w) if that is an improvement.
+     * Shared by every queue type, score comes from addLength so it is never a wrapped negative sum.
+     * @return true if the score of w was lowered
+     */
+    private boolean relax(int v, int w, int score){
+        if (stamp[w] != epoch){
+            stamp[w] = epoch;
+            distance[w] = score;
+            predecessor[w] = v;
+            frontier.insert(w, score);
+            return true;
+        }
+        else if (score < distance[w]){
+            distance[w] = score;
+            predecessor[w] = v;
+            frontier.decreaseKey(w, score);
+            return true;
+        }
+        return false;
+    }
+}
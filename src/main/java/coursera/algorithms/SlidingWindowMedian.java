@@ -0,0 +1,77 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for StreamMedianFinder.
+ *              This class answers the median of the last windowSize numbers of the stream.
+ *              The window is a ring buffer, and the two heaps of the median maintenance algorithm hold ring
+ *              slots instead of values. Both heaps are IndexedMinHeap, which can remove any slot, so the
+ *              number leaving the window is deleted directly from its heap in O(log N)
+ *              (heap low stores ~value as key, which reverses the order and turns it into a max heap).
+ *              Memory is fixed at a few int arrays of size windowSize.
+ **/
+public class SlidingWindowMedian implements MedianEngine {
+    private final int[] window; //Ring buffer of the last windowSize numbers
+    private final IndexedMinHeap heapLow; //Slots of the smaller half, keyed by ~value (max value as root)
+    private final IndexedMinHeap heapHigh; //Slots of the larger half, keyed by value (min value as root)
+    private long count; //Number of numbers offered so far
+
+    /**
+     * @param windowSize number of most recent numbers the median is taken over
+     */
+    public SlidingWindowMedian(int windowSize){
+        if (windowSize < 1){
+            throw new IllegalArgumentException("Error: window size must be positive.");
+        }
+        window = new int[windowSize];
+        heapLow = new IndexedMinHeap(windowSize);
+        heapHigh = new IndexedMinHeap(windowSize);
+    }
+
+    @Override
+    public void offer(int numToAdd){
+        int slot = (int) (count % window.length);
+        if (count >= window.length){ //the number in this slot leaves the window
+            if (heapLow.contains(slot)){
+                heapLow.remove(slot);
+            }
+            else{
+                heapHigh.remove(slot);
+            }
+        }
+        window[slot] = numToAdd;
+        //compare with heap high (heap low may be empty after the expiry) to keep every low <= every high
+        if (!heapHigh.isEmpty() && numToAdd > window[heapHigh.peekMin()]){
+            heapHigh.insert(slot, numToAdd);
+        }
+        else{
+            heapLow.insert(slot, ~numToAdd);
+        }
+        heapRearrange();
+        count++;
+    }
+
+    @Override
+    public int currentMedian(){
+        return window[heapLow.peekMin()];
+    }
+
+    public int getWindowSize(){
+        return window.length;
+    }
+
+    /**
+     * Keep heap low size equal to or one element more than heap high. After an expiry and an insert
+     * the sizes can be two apart in either direction.
+     */
+    private void heapRearrange(){
+        while (heapLow.size() < heapHigh.size()){
+            int slot = heapHigh.extractMin();
+            heapLow.insert(slot, ~window[slot]);
+        }
+        while (heapLow.size() - heapHigh.size() >= 2){
+            int slot = heapLow.extractMin();
+            heapHigh.insert(slot, window[slot]);
+        }
+    }
+}
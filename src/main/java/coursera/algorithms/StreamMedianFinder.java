@@ -0,0 +1,329 @@
+package coursera.algorithms;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.IntConsumer;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Week 3 Programming Assignment.
+ *              This class finds the sum of medians in integer streams in which one number is pushed in
+ *              each of 10000 time steps.
+ *              The goal of this problem is to implement the "Median Maintenance" algorithm
+ *              (covered in the Week 3 lecture on heap applications).
+ *              The text file contains a list of the integers from 1 to 10000 in unsorted order.
+ *              You should treat this as a stream of numbers, arriving one by one.
+ *              Letting x_i denote the i th number of the file, the k th median m_k is defined as
+ *              the median of the numbers x_1, x_2......x_k.
+ *              (So, if k is odd, then m_k is ((k+1)/2)th smallest number among x_1, x_2......x_k;
+ *              if k is even, then m_k is the (k/2)th smallest number among x_1, x_2......x_k)
+ *
+ *              The expected answer of the assignment is the sum of these 10000 medians, modulo 10000
+ *              (i.e., only the last 4 digits).
+ *              That is, you should compute (m_1+m_2+m_3 +......+ m_10000) mod 10000.
+ *
+ *              To solve this problem, two heaps(represented as array) are created.
+ *              Heap_low stores first half of elements and Heap_high stores the second half (see TwoHeapMedian).
+ *              A sliding window mode (SlidingWindowMedian) gives the median of the last N numbers instead,
+ *              and an approximate mode (KllQuantileSketch) gives medians and other quantiles in bounded memory.
+ *              Numbers from a small known domain can use counts over the domain (BoundedDomainMedian).
+ *
+ *              Numbers are processed online: offer(int) updates the median engine and currentMedian() is
+ *              available after every number. Streams can be pushed in from an InputStream, a ReadableByteChannel or a
+ *              Flow.Publisher, and the input itself is never buffered beyond one read block.
+ *              This class is not thread-safe, numbers must be offered from one thread at a time.
+ *
+ * @author : Zitao He
+ * @date : 2021-01-25 20:13
+ **/
+public class StreamMedianFinder {
+    private static final int READ_BUFFER_SIZE = 1 << 16; //Bytes read from a stream or channel at a time
+    private static final int SUBSCRIBER_BATCH_SIZE = 1 << 10; //Numbers requested from a publisher at a time
+    static final int BOUNDED_DOMAIN_MAX_SIZE = 1 << 22; //Larger domains fall back to the heaps (32MB of counts)
+
+    private final MedianEngine engine; //Keeps the median of the numbers offered so far
+    private final KllQuantileSketch sketch; //The engine of approximate mode, null for other engines
+    private final int hop; //Median listeners are called once every hop numbers
+    long count; //Number of numbers offered so far
+    long medianSum; //Sum of m_1 ... m_count, of approximate medians for an engine with a rank error
+    private int median; //Median last read from the engine, added to medianSum for each number
+    private long nextMedianRead; //Count at which the median is read from the engine again
+
+    //State of the ASCII number parser, kept between read blocks so a number may span two blocks
+    private long parsedValue;
+    private boolean parsedNegative;
+    private boolean inNumber;
+
+    /**
+     * Constructor for online use. Numbers are added with offer(int) or one of the consume methods.
+     * @param expectedSize expected number of numbers, used as initial heap capacity
+     */
+    public StreamMedianFinder(int expectedSize){
+        this(new TwoHeapMedian(expectedSize), 1);
+    }
+
+    /**
+     * Constructor for online use with a given median engine
+     * @param engine the engine that keeps the median, e.g. SlidingWindowMedian for a windowed median
+     * @param hop median listeners receive the median once every hop numbers
+     */
+    public StreamMedianFinder(MedianEngine engine, int hop){
+        this(engine, null, hop);
+    }
+
+    private StreamMedianFinder(MedianEngine engine, KllQuantileSketch sketch, int hop){
+        if (hop < 1){
+            throw new IllegalArgumentException("Error: hop must be positive.");
+        }
+        this.engine = engine;
+        this.sketch = sketch;
+        this.hop = hop;
+        nextMedianRead = 1;
+    }
+
+    /**
+     * Build a finder for the median of the last windowSize numbers
+     * @param windowSize number of most recent numbers the median is taken over
+     * @param hop median listeners receive the median once every hop numbers
+     * @return the finder
+     */
+    public static StreamMedianFinder slidingWindow(int windowSize, int hop){
+        return new StreamMedianFinder(new SlidingWindowMedian(windowSize), hop);
+    }
+
+    /**
+     * Build a finder for numbers in the domain [minValue, maxValue]. Domains up to BOUNDED_DOMAIN_MAX_SIZE
+     * values use BoundedDomainMedian (counts over the domain and a bitmap of the non-empty values, O(log U)
+     * per number), larger ones fall back to the two heaps.
+     * @param minValue smallest possible number
+     * @param maxValue largest possible number
+     * @param expectedSize expected number of numbers, used as initial heap capacity if the heaps are used
+     * @param hop median listeners receive the median once every hop numbers
+     * @return the finder
+     */
+    public static StreamMedianFinder boundedDomain(int minValue, int maxValue, int expectedSize, int hop){
+        long domainSize = (long) maxValue - minValue + 1;
+        if (domainSize <= BOUNDED_DOMAIN_MAX_SIZE){
+            return new StreamMedianFinder(new BoundedDomainMedian(minValue, maxValue), hop);
+        }
+        return new StreamMedianFinder(new TwoHeapMedian(expectedSize), hop);
+    }
+
+    /**
+     * Build a finder that keeps a KllQuantileSketch instead of all numbers. Medians (and any quantile through
+     * getSketch()) are within rank error epsilon, memory stays at a few hundred ints however long the stream is.
+     * The median sum is approximate in this mode, see medianSum.
+     * @param epsilon rank error as a fraction of the numbers offered, e.g. 0.01
+     * @param hop median listeners receive the median once every hop numbers
+     * @return the finder
+     */
+    public static StreamMedianFinder approximate(double epsilon, int hop){
+        KllQuantileSketch sketch = KllQuantileSketch.forError(epsilon);
+        return new StreamMedianFinder(sketch, sketch, hop);
+    }
+
+    /**
+     * Constructor streams the numbers of data file through the median heaps
+     * @param streamSize the size of the stream (number of distinct integers in data file)
+     * @param inputFileName the file name of data file
+     * @throws FileNotFoundException throws exception when file is not found
+     */
+    public StreamMedianFinder(int streamSize, String inputFileName) throws FileNotFoundException{
+        this(streamSize);
+        try (MappedInputReader reader = new MappedInputReader(inputFileName)){
+            while(reader.hasNext() && count < streamSize){
+                offer(reader.nextInt());
+            }
+        }
+        catch (IOException e){
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+    }
+
+    /**
+     * Add the next number of the stream
+     * @param numToAdd the number
+     */
+    public void offer(int numToAdd){
+        engine.offer(numToAdd);
+        count++;
+        if (count >= nextMedianRead){
+            median = engine.currentMedian();
+            //exact medians are read after every number. A sketch median costs a sort of the sketch, so it is
+            //read again once rankError * count more numbers arrived, which move the median by at most that rank
+            nextMedianRead = count + Math.max(1, (long) (engine.getRankError() * count));
+        }
+        medianSum += median;
+    }
+
+    /**
+     * @return median of the numbers covered by the engine ((k+1)/2 th smallest if k is odd,
+     *         k/2 th smallest if even)
+     */
+    public int currentMedian(){
+        return engine.currentMedian();
+    }
+
+    public long count(){
+        return count;
+    }
+
+    /**
+     * @return the sketch of a finder built by approximate(), e.g. to query other quantiles or merge with other
+     *         finders, null otherwise
+     */
+    public KllQuantileSketch getSketch(){
+        return sketch;
+    }
+
+    /**
+     * @return rank error of the medians as a fraction of the numbers covered, 0 if they are exact
+     */
+    public double getRankError(){
+        return engine.getRankError();
+    }
+
+    /**
+     * Calculate the median sum of integer stream
+     * @return integer stream median sum, m_1 + m_2 + ... + m_k over all numbers offered so far.
+     *         If the engine has a rank error e (approximate mode), each m_i of the sum is within rank error 2e of
+     *         the median of the first i numbers: e of the sketch, and at most e more because the sketch median
+     *         is only read again after every e * i numbers.
+     */
+    public long medianSum(){
+        return medianSum;
+    }
+
+    /**
+     * Read whitespace separated ASCII integers from an input stream until it ends
+     * @param in the input stream, not closed by this method
+     * @param medianListener receives the median after each hop numbers, may be null
+     * @throws IOException when reading fails
+     */
+    public void consume(InputStream in, IntConsumer medianListener) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int length;
+        while ((length = in.read(buffer)) != -1){
+            parse(buffer, length, medianListener);
+        }
+        endOfInput(medianListener);
+    }
+
+    /**
+     * Read whitespace separated ASCII integers from a channel until it ends
+     * @param channel the channel, not closed by this method
+     * @param medianListener receives the median after each hop numbers, may be null
+     * @throws IOException when reading fails
+     */
+    public void consume(ReadableByteChannel channel, IntConsumer medianListener) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        while (channel.read(buffer) != -1){
+            parse(buffer.array(), buffer.position(), medianListener);
+            buffer.clear();
+        }
+        endOfInput(medianListener);
+    }
+
+    /**
+     * Subscribe to a publisher of numbers. Numbers are requested in batches, so a fast publisher can not
+     * flood the heaps faster than they are updated.
+     * @param publisher the publisher
+     * @param medianListener receives the median after each hop numbers, may be null
+     * @return future that completes when the publisher completes, or fails with the publisher's error
+     */
+    public CompletableFuture<Void> subscribe(Flow.Publisher<Integer> publisher, IntConsumer medianListener){
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<Integer>() {
+            private Flow.Subscription subscription;
+            private int remaining; //numbers left in the current batch
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                remaining = SUBSCRIBER_BATCH_SIZE;
+                subscription.request(SUBSCRIBER_BATCH_SIZE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                emit(item, medianListener);
+                if (--remaining == 0){
+                    remaining = SUBSCRIBER_BATCH_SIZE;
+                    subscription.request(SUBSCRIBER_BATCH_SIZE);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Parse a block of ASCII bytes. A number that is not finished at the end of the block is kept in the
+     * parser state and continued with the next block.
+     */
+    private void parse(byte[] buffer, int length, IntConsumer medianListener){
+        for (int i = 0; i < length; i++){
+            int b = buffer[i];
+            if (b >= '0' && b <= '9'){
+                parsedValue = parsedValue * 10 + (b - '0');
+                inNumber = true;
+            }
+            else if (b == '-' && !inNumber){
+                parsedNegative = true;
+            }
+            else if (b == ' ' || b == '\t' || b == '\n' || b == '\r'){
+                endOfNumber(medianListener);
+            }
+            else{
+                throw new NumberFormatException("Error: unexpected character '" + (char) b + "' in stream.");
+            }
+        }
+    }
+
+    private void endOfNumber(IntConsumer medianListener){
+        if (inNumber){
+            long value = parsedNegative ? -parsedValue : parsedValue;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE){
+                throw new NumberFormatException("Error: value " + value + " is out of int range.");
+            }
+            emit((int) value, medianListener);
+        }
+        parsedValue = 0;
+        parsedNegative = false;
+        inNumber = false;
+    }
+
+    private void endOfInput(IntConsumer medianListener){
+        endOfNumber(medianListener); //last number may not be followed by a line break
+    }
+
+    private void emit(int number, IntConsumer medianListener){
+        offer(number);
+        if (medianListener != null && count % hop == 0){
+            medianListener.accept(engine.currentMedian());
+        }
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+        //StreamMedianFinder test = new StreamMedianFinder(7,"data/Median-test1.txt");
+        //StreamMedianFinder test = new StreamMedianFinder(10,"data/Median-test2.txt");
+        StreamMedianFinder test = new StreamMedianFinder(10000,"data/Median.txt");
+
+        //answer of Median-test1.txt is Output (sum of medians modulo 10000): 142
+        //answer of Median-test2.txt is Output (sum of medians modulo 10000): 9335
+        System.out.println("Sum of medians is: " + test.medianSum());
+    }
+
+    }
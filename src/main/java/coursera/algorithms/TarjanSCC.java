@@ -0,0 +1,149 @@
+package coursera.algorithms;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder.
+ *              This class finds the strongly connected components (SCC) of a CompactGraph in a single DFS pass
+ *              over the forward graph, so the reversed graph of Kosaraju's algorithm is never built.
+ *              It is Tarjan's algorithm in the space-efficient form of Pearce ("A space-efficient algorithm
+ *              for finding strongly connected components"): one array rindex holds the DFS index of a vertex
+ *              while it is active (the smallest index it reaches, like Tarjan's lowlink) and its component ID
+ *              once its SCC is complete. Component IDs count down from n - 1, so they are always larger than
+ *              any active index and finished vertices never lower the rindex of another vertex.
+ *              The DFS is iterative (explicit int stack and per-vertex edge cursor, as in GraphSCCFinder).
+ *              Components are completed in reverse topological order: component 0 has no edge to another
+ *              component.
+ **/
+public class TarjanSCC {
+    private final int numOfVertices;
+    private final int[] component; //component[i] is the component ID (0 ... numOfComponents - 1) of vertex index i
+                                   //(position i in members of a subgraph)
+    private int numOfComponents;
+
+    /**
+     * Find the SCCs of graph
+     * @param graph the graph, vertex index is ID - 1
+     */
+    public TarjanSCC(CompactGraph graph){
+        this(graph, null, null, null);
+    }
+
+    /**
+     * Find the SCCs of the subgraph of graph induced by members (used by ParallelSCC for small subproblems).
+     * Edges to vertices outside of members are skipped. Vertices are identified by their position in members.
+     * @param graph the graph, vertex index is ID - 1
+     * @param members vertex indices of the subgraph, or null for the whole graph
+     * @param isMember true exactly for the vertex indices in members, tested for every edge target
+     * @param localIndex array over all vertex indices of graph, localIndex[members[i]] is set to i.
+     *                   Only the entries of members are written, so disjoint subgraphs can share it.
+     */
+    public TarjanSCC(CompactGraph graph, int[] members, IntPredicate isMember, int[] localIndex){
+        numOfVertices = (members == null) ? graph.getNumOfVertices() : members.length;
+        int n = numOfVertices;
+        if (members != null){
+            for (int i = 0; i < n; i++){
+                localIndex[members[i]] = i;
+            }
+        }
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] rindex = new int[n]; //0: not visited, DFS index while active, component ID (counting down) when done
+        boolean[] root = new boolean[n]; //True while no vertex with smaller index is reachable from the vertex
+        int[] dfsStack = new int[n]; //Current DFS path (vertex index)
+        int[] edgeCursor = new int[n]; //Index of the next edge (in CSR targets array) for each vertex on the path
+        int[] sccStack = new int[n]; //Visited vertices whose component is not complete yet
+        int sccTop = 0;
+        int index = 1;
+        int nextComponent = n - 1;
+
+        for (int start = 0; start < n; start++){
+            if (rindex[start] != 0){continue;}
+            int top = 0;
+            dfsStack[top++] = start;
+            rindex[start] = index++;
+            root[start] = true;
+            edgeCursor[start] = offsets[(members == null) ? start : members[start]];
+            while (top > 0){
+                int v = dfsStack[top - 1];
+                int cursor = edgeCursor[v];
+                int end = offsets[((members == null) ? v : members[v]) + 1];
+                //update from visited neighbors until an unvisited one is found
+                int w = -1;
+                for (; cursor < end; cursor++){
+                    int target = targets[cursor];
+                    if (members == null){
+                        w = target;
+                    }
+                    else if (isMember.test(target)){
+                        w = localIndex[target];
+                    }
+                    else{
+                        continue; //outside of the subgraph
+                    }
+                    if (rindex[w] == 0){break;}
+                    if (rindex[w] < rindex[v]){
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                }
+                if (cursor < end){
+                    edgeCursor[v] = cursor; //edge to w is checked again when w returns, to update rindex[v]
+                    rindex[w] = index++;
+                    root[w] = true;
+                    edgeCursor[w] = offsets[(members == null) ? w : members[w]];
+                    dfsStack[top++] = w;
+                    continue;
+                }
+                top--; //all neighbors are done, v is finished
+                if (root[v]){ //v is the root of an SCC: pop its members
+                    index--;
+                    while (sccTop > 0 && rindex[v] <= rindex[sccStack[sccTop - 1]]){
+                        int u = sccStack[--sccTop];
+                        rindex[u] = nextComponent;
+                        index--;
+                    }
+                    rindex[v] = nextComponent;
+                    nextComponent--;
+                }
+                else{
+                    sccStack[sccTop++] = v;
+                }
+            }
+        }
+
+        numOfComponents = n - 1 - nextComponent;
+        component = rindex;
+        for (int i = 0; i < n; i++){
+            component[i] = n - 1 - component[i]; //first completed component gets ID 0
+        }
+    }
+
+    public int getNumOfVertices(){
+        return numOfVertices;
+    }
+
+    public int getNumOfComponents(){
+        return numOfComponents;
+    }
+
+    /**
+     * @return component ID for each vertex index (vertex ID - 1), or for each position in members of a subgraph,
+     *         in reverse topological order of components
+     */
+    public int[] getComponent(){
+        return component;
+    }
+
+    /**
+     * @return number of vertices in each component
+     */
+    public int[] getComponentSizes(){
+        int[] sizes = new int[numOfComponents];
+        for (int c : component){
+            sizes[c]++;
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,53 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for StreamMedianFinder.
+ *              This class is the "Median Maintenance" engine from the Week 3 lecture on heap applications.
+ *              Heap_low (max as root) stores the first half of elements and Heap_high (min as root) stores
+ *              the second half, so the median is always the root of heap low.
+ *              It covers every number since the start of the stream.
+ **/
+public class TwoHeapMedian implements MedianEngine {
+    IntHeap heapLow; //Heap with max as root
+    IntHeap heapHigh; //Heap with min as root
+
+    /**
+     * @param expectedSize expected number of numbers, used as initial heap capacity
+     */
+    public TwoHeapMedian(int expectedSize){
+        heapLow = new IntHeap(true, expectedSize / 2 + 1);
+        heapHigh = new IntHeap(false, expectedSize / 2 + 1);
+    }
+
+    @Override
+    public void offer(int numToAdd){
+        if(heapLow.isEmpty() || numToAdd < heapLow.peek()){ //If new element is smaller than median, insert to heap low
+            heapLow.push(numToAdd);
+        }
+        else {
+            heapHigh.push(numToAdd);
+        }
+        heapRearrange();
+    }
+
+    @Override
+    public int currentMedian(){
+        return heapLow.peek();
+    }
+
+    /**
+     * Re-arrange the size of heap low and heap high such that heap low size is always equal to or
+     * one element more than heap high. This method keeps heap low and heap high balanced.
+     */
+    private void heapRearrange(){
+        int lowSize = heapLow.size();
+        int highSize = heapHigh.size();
+        if (lowSize < highSize){
+            heapLow.push(heapHigh.pop()); //Insert the min value of heap high to heap low
+        }
+        if (lowSize - highSize == 2){
+            heapHigh.push(heapLow.pop());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for TwoSumFinder.
+ *              This class groups numbers into buckets of width W = high - low + 1, where number v goes to
+ *              bucket floor(v / W). For a number x, every y with low <= x + y <= high lies in
+ *              [low - x, high - x], an interval of width W, so it can only be in bucket floor((low - x) / W)
+ *              or bucket floor((high - x) / W). Each x therefore probes at most two buckets.
+ *              Near the ends of the long range low - x and high - x are clamped to the range, and the sums
+ *              are compared without overflow (TwoSumFinder.compareSum).
+ *              Buckets live in one open-addressing table (linear probing) of long values: a number is stored
+ *              at the first free slot starting from the hash of its bucket ID, so all numbers of a bucket are
+ *              found by scanning from that hash to the next empty slot. Nothing is sorted, and building the
+ *              index is a single pass over the input.
+ *              The price is memory: the table has 1.4 to 2.9 slots of 8 bytes per number (a power of two
+ *              filled at most 70%), on top of the input array, while the sorted engine of TwoSumFinder works
+ *              in place. See tableBytes for the estimate TwoSumFinder uses to pick an engine.
+ **/
+public class TwoSumBucketIndex {
+    private static final long EMPTY = Long.MIN_VALUE; //Marks an empty slot
+    private static final double MAX_LOAD = 0.7;
+
+    private final long width; //W, width of target interval
+    private final long[] table; //Distinct numbers placed by the hash of their bucket ID
+    private final int mask; //Table size - 1, table size is a power of 2
+
+    /**
+     * Build the index
+     * @param numbers the numbers to index, repetitions are allowed (and stored once)
+     * @param size number of entries of numbers to use
+     * @param width width of the target interval, must be positive
+     */
+    public TwoSumBucketIndex(long[] numbers, int size, long width){
+        this.width = width;
+        long capacity = capacityFor(size);
+        if (capacity > (1 << 30)){
+            throw new IllegalArgumentException("Error: too many numbers for bucket index.");
+        }
+        table = new long[(int) capacity];
+        Arrays.fill(table, EMPTY);
+        mask = table.length - 1;
+        for (int i = 0; i < size; i++){
+            insert(numbers[i]);
+        }
+    }
+
+    public long getWidth() {
+        return width;
+    }
+
+    /**
+     * @param size number of numbers to index
+     * @return bytes of the table an index of that many numbers allocates
+     */
+    public static long tableBytes(int size){
+        return 8 * capacityFor(size);
+    }
+
+    private static long capacityFor(int size){
+        return Long.highestOneBit(Math.max(4, (long) (size / MAX_LOAD))) << 1;
+    }
+
+    /**
+     * For each x = numbers[from] ... numbers[to - 1], mark every target t = x + y in [low, high]
+     * with y > x (so x and y are distinct and each pair is seen once)
+     * @param numbers the numbers the index was built from
+     * @param from first position of x (inclusive)
+     * @param to last position of x (exclusive)
+     * @param low lower bound of target value, high - low + 1 must equal the index width
+     * @param high upper bound of target value
+     * @param targets bit set indexed by t - low
+     */
+    public void markTargets(long[] numbers, int from, int to, long low, long high, BitSet targets){
+        for (int i = from; i < to; i++){
+            long x = numbers[i];
+            //window ends clamped to the long range, where y lives, the sum check below is exact
+            long firstBucket = Math.floorDiv(saturatedDifference(low, x), width);
+            long lastBucket = Math.floorDiv(saturatedDifference(high, x), width);
+            for (long bucket = firstBucket; bucket <= lastBucket; bucket++){ //one or two buckets
+                //other buckets sharing the probe run are checked too, any y in range is a valid match
+                for (int slot = slotOf(bucket); table[slot] != EMPTY; slot = (slot + 1) & mask){
+                    long y = table[slot];
+                    if (y > x && TwoSumFinder.compareSum(x, y, low) >= 0 && TwoSumFinder.compareSum(x, y, high) <= 0){
+                        targets.set((int) (x + y - low));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a - b, or Long.MIN_VALUE / Long.MAX_VALUE when it is beyond the long range
+     */
+    private static long saturatedDifference(long a, long b){
+        long difference = a - b;
+        if (((a ^ b) & (a ^ difference)) < 0){ //overflow, a and b have different signs and difference has b's
+            return (a < 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return difference;
+    }
+
+    private void insert(long value){
+        if (value == EMPTY){
+            return; //Long.MIN_VALUE is never the larger number y of a pair, so it does not need a slot
+        }
+        int slot = slotOf(Math.floorDiv(value, width));
+        while (table[slot] != EMPTY){
+            if (table[slot] == value){
+                return; //repetition
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+    }
+
+    /**
+     * Spread the bits of bucket ID (multiply by 2^64 / golden ratio, then fold high bits into low bits)
+     */
+    private int slotOf(long bucket){
+        long h = bucket * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,313 @@
+package coursera.algorithms;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Week 4 Programming Assignment.
+ *              The goal of this problem is to implement a variant of the 2-SUM algorithm covered
+ *              in this week's lectures.
+ *
+ *              The file(2sum.txt in /data folder) contains 1 million integers,
+ *              both positive and negative (there might be some repetitions!).
+ *              This is your array of integers, with the i_th row of the file specifying
+ *              the i_th entry of the array.
+ *
+ *              Your task is to compute the number of target values t in the interval
+ *              [-10000,10000] (inclusive) such that there are distinct numbers x, y
+ *              in the input file that satisfy x + y = t
+ *              (NOTE: ensuring distinctness requires a one-line addition to the algorithm from lecture.)
+ *
+ *              Write your numeric answer (an integer between 0 and 20001) in the space provided.
+ *
+ * @author : Zitao He
+ * @date : 2021-01-27 21:30
+ **/
+public class TwoSumFinder {
+    //Bucket index is only picked for inputs at least this large. Sorting in place is cache friendly and
+    //measured faster than the hash table on 1M and 8M random numbers, so the bucket index is kept for
+    //inputs where the O(n log n) sort dominates
+    private static final int BUCKET_INDEX_MIN_SIZE = 1 << 26;
+    //Bucket index is only picked if its table takes at most this fraction of the free heap
+    private static final double BUCKET_INDEX_MAX_HEAP_FRACTION = 0.5;
+    //Bucket index is only picked if a bucket holds at most this many numbers on average
+    private static final double BUCKET_INDEX_MAX_LOAD = 4.0;
+
+    long[] numbers; //Input numbers. Sorted and distinct once sortNumbers() has run
+    int size; //Number of entries in use in numbers
+    boolean sorted; //Whether or not numbers is sorted and distinct
+    long minNumber; //Smallest input number
+    long maxNumber; //Largest input number
+    TwoSumBucketIndex bucketIndex; //Index built by the last bucketed count, null if none
+
+    /**
+     * Constructor reads in data. Numbers are sorted (or bucketed) later by the engine that needs it.
+     * @param inputFileName the file name of data file, one integer per line
+     * @throws FileNotFoundException throws exception when file is not found
+     */
+    public TwoSumFinder(String inputFileName) throws FileNotFoundException {
+        numbers = new long[1024];
+        size = 0;
+        minNumber = Long.MAX_VALUE;
+        maxNumber = Long.MIN_VALUE;
+        try (MappedInputReader reader = new MappedInputReader(inputFileName)){
+            while(reader.hasNext()){
+                if (size == numbers.length){
+                    numbers = Arrays.copyOf(numbers, size + (size >> 1));
+                }
+                long number = reader.nextLong();
+                numbers[size++] = number;
+                minNumber = Math.min(minNumber, number);
+                maxNumber = Math.max(maxNumber, number);
+            }
+        }
+        catch (IOException e){
+            throw new FileNotFoundException("Error: Input file is not found.");
+        }
+    }
+
+    /**
+     * Count the target values t in [low, high] such that x + y = t for distinct numbers x, y in input.
+     * The engine is picked from input size and range width: a large input whose buckets of width
+     * high - low + 1 are sparse is counted with the bucket index, which needs no sorting. The index
+     * takes 1.4 to 2.9 times the memory of the numbers, so it is only picked when it fits in half of the
+     * free heap. Otherwise (or once the numbers are sorted) the two-pointer sweep over the numbers
+     * sorted in place is used, which needs no extra memory.
+     * @param low lower bound of target value (inclusive)
+     * @param high upper bound of target value (inclusive)
+     * @return number of distinct target values
+     */
+    public int numOfTwoSum(int low, int high){
+        if (low <= high && useBucketIndex((long) high - low + 1)){
+            return numOfTwoSumBucketed(low, high);
+        }
+        return numOfTwoSumSorted(low, high);
+    }
+
+    /**
+     * Count the distinct target values with a two-pointer sweep over the sorted numbers.
+     * Found targets are marked in a bit set indexed by t - low.
+     * @param low lower bound of target value (inclusive)
+     * @param high upper bound of target value (inclusive)
+     * @return number of distinct target values
+     */
+    public int numOfTwoSumSorted(int low, int high){
+        if (low > high){
+            return 0;
+        }
+        BitSet targets = newTargetSet(low, high);
+        sortNumbers();
+        sweep(0, size, low, high, targets);
+        return targets.cardinality();
+    }
+
+    /**
+     * Count the distinct target values on the common ForkJoinPool. Same result as numOfTwoSumSorted.
+     * @param low lower bound of target value (inclusive)
+     * @param high upper bound of target value (inclusive)
+     * @return number of distinct target values
+     */
+    public int numOfTwoSumParallel(int low, int high){
+        return numOfTwoSumParallel(low, high, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Count the distinct target values in parallel. The sorted numbers are split into chunks of x,
+     * each chunk runs the two-pointer sweep into its own bit set, and the bit sets are OR-merged
+     * when the tasks join.
+     * @param low lower bound of target value (inclusive)
+     * @param high upper bound of target value (inclusive)
+     * @param pool the pool that runs the chunks
+     * @return number of distinct target values
+     */
+    public int numOfTwoSumParallel(int low, int high, ForkJoinPool pool){
+        if (low > high){
+            return 0;
+        }
+        newTargetSet(low, high); //check range width before starting tasks
+        sortNumbers();
+        int threshold = Math.max(1 << 12, size / (4 * pool.getParallelism())); //about 4 chunks per thread
+        return pool.invoke(new SweepTask(0, size, low, high, threshold)).cardinality();
+    }
+
+    /**
+     * Two-pointer sweep for x = numbers[from] ... numbers[to - 1] over the sorted numbers.
+     * For each x (in increasing order) the matching y are in the window [low - x, high - x]. The window
+     * only moves left as x grows, so after a binary search for the first x the two pointers only
+     * move left. Only y after x are taken, which makes x and y distinct and visits each pair once.
+     * Window ends are tested with compareSum, low - x and high - x are never computed: near the ends of
+     * the long range they would overflow.
+     * @param targets bit set indexed by t - low, found targets are set in it
+     */
+    private void sweep(int from, int to, int low, int high, BitSet targets){
+        if (from >= to){
+            return;
+        }
+        long first = numbers[from];
+        int left = firstWithSumAtLeast(first, low); //first index with x + numbers[left] >= low
+        int right = firstWithSumAtLeast(first, (long) high + 1) - 1; //last index with x + numbers[right] <= high
+        for (int i = from; i < to; i++){
+            long x = numbers[i];
+            while (right >= 0 && compareSum(x, numbers[right], high) > 0){
+                right--;
+            }
+            while (left > 0 && compareSum(x, numbers[left - 1], low) >= 0){
+                left--;
+            }
+            if (right <= i){ //no y after x is small enough, and the window only moves further left
+                break;
+            }
+            for (int j = Math.max(left, i + 1); j <= right; j++){
+                targets.set((int) (x + numbers[j] - low)); //x + y is in [low, high], so it did not overflow
+            }
+        }
+    }
+
+    /**
+     * @return first index in sorted numbers with x + numbers[index] >= t (size if none)
+     */
+    private int firstWithSumAtLeast(long x, long t){
+        int lo = 0;
+        int hi = size;
+        while (lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if (compareSum(x, numbers[mid], t) < 0){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Compare x + y with t without overflow: a sum beyond the long range is beyond every t on the side of x
+     * @return negative, zero or positive as x + y is smaller than, equal to or larger than t
+     */
+    static int compareSum(long x, long y, long t){
+        long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0){ //overflow, x and y have the same sign and sum has the other
+            return (x < 0) ? -1 : 1;
+        }
+        return Long.compare(sum, t);
+    }
+
+    /**
+     * Fork/join task that sweeps x = numbers[from] ... numbers[to - 1] and returns the targets found
+     */
+    private class SweepTask extends RecursiveTask<BitSet> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int low;
+        private final int high;
+        private final int threshold;
+
+        SweepTask(int from, int to, int low, int high, int threshold){
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected BitSet compute() {
+            if (to - from > threshold){
+                int mid = (from + to) >>> 1;
+                SweepTask leftHalf = new SweepTask(from, mid, low, high, threshold);
+                leftHalf.fork();
+                BitSet targets = new SweepTask(mid, to, low, high, threshold).compute();
+                targets.or(leftHalf.join());
+                return targets;
+            }
+            BitSet targets = newTargetSet(low, high);
+            sweep(from, to, low, high, targets);
+            return targets;
+        }
+    }
+
+    /**
+     * Count the distinct target values with a bucket index of width high - low + 1.
+     * Each x only probes the one or two buckets that can hold a matching y (see TwoSumBucketIndex).
+     * The index table is allocated next to the numbers, see TwoSumBucketIndex.tableBytes for its size.
+     * @param low lower bound of target value (inclusive)
+     * @param high upper bound of target value (inclusive)
+     * @return number of distinct target values
+     */
+    public int numOfTwoSumBucketed(int low, int high){
+        if (low > high){
+            return 0;
+        }
+        BitSet targets = newTargetSet(low, high);
+        long width = (long) high - low + 1;
+        if (bucketIndex == null || bucketIndex.getWidth() != width){
+            bucketIndex = new TwoSumBucketIndex(numbers, size, width);
+        }
+        bucketIndex.markTargets(numbers, 0, size, low, high, targets);
+        return targets.cardinality();
+    }
+
+    /**
+     * Decide whether the bucket index is the cheaper engine for a target interval of the given width
+     */
+    private boolean useBucketIndex(long width){
+        if (bucketIndex != null && bucketIndex.getWidth() == width){
+            return true; //already built
+        }
+        if (sorted || size < BUCKET_INDEX_MIN_SIZE){
+            return false; //sorting is already paid for, or cheap
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long freeHeap = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        if (TwoSumBucketIndex.tableBytes(size) > freeHeap * BUCKET_INDEX_MAX_HEAP_FRACTION){
+            return false; //the sort works in place, the table might not fit
+        }
+        //average number of values per bucket, which is the work each x does in the bucket engine
+        double expectedLoad = (double) size * width / ((double) maxNumber - minNumber + 1);
+        return expectedLoad <= BUCKET_INDEX_MAX_LOAD;
+    }
+
+    /**
+     * Sort numbers in place and remove repetitions, if not done yet
+     */
+    private void sortNumbers(){
+        if (sorted){
+            return;
+        }
+        Arrays.sort(numbers, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++){ //keep the first of each run of equal numbers
+            if (distinct == 0 || numbers[i] != numbers[distinct - 1]){
+                numbers[distinct++] = numbers[i];
+            }
+        }
+        size = distinct;
+        sorted = true;
+        bucketIndex = null; //positions changed
+    }
+
+    private static BitSet newTargetSet(int low, int high){
+        if ((long) high - low >= Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Error: target range is too wide to count in a bit set.");
+        }
+        return new BitSet(high - low + 1);
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+        //TwoSumFinder tester = new TwoSumFinder("data/2sum-test1.txt");
+        //System.out.println("Total number of valid two sums: " + tester.numOfTwoSum(3, 10)); //expected 8
+
+        //TwoSumFinder tester = new TwoSumFinder("data/2sum-test2.txt");
+        //System.out.println("Total number of valid two sums: " + tester.numOfTwoSum(0, 4)); //expected 2
+
+        TwoSumFinder tester = new TwoSumFinder("data/2sum.txt");
+        System.out.println("Total number of valid two sums: " + tester.numOfTwoSum(-10000, 10000)); //correct answer is 427
+    }
+}
@@ -0,0 +1,90 @@
+package coursera.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for GraphSCCFinder and DijkstraShortestPathFinder.
+ *              The graph classes assume vertex IDs are exactly 1 ... n. This class maps arbitrary (sparse, 64-bit)
+ *              external IDs to dense IDs 1 ... n in order of first appearance, and translates results back.
+ *              It is only used while a file is loaded and when results are translated, the searches themselves
+ *              work on dense IDs, so no hash lookup is added to the DFS or relaxation loops.
+ *              Memory is proportional to the number of vertices present, not to the largest external ID.
+ **/
+public class VertexIdDictionary {
+    private final LongIntHashMap denseIds; //External ID -> dense ID
+    private long[] externalIds; //externalIds[i] is the external ID of dense ID i + 1
+    private int size;
+
+    /**
+     * @param expectedSize expected number of vertices
+     */
+    public VertexIdDictionary(int expectedSize){
+        denseIds = new LongIntHashMap(expectedSize);
+        externalIds = new long[Math.max(4, expectedSize)];
+    }
+
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Get the dense ID of an external ID, adding it if it is new
+     * @param externalId external vertex ID
+     * @return dense ID (1 ... size)
+     */
+    public int idOf(long externalId){
+        int id = denseIds.putIfAbsent(externalId, size + 1);
+        if (id == size + 1){ //new vertex
+            if (size == externalIds.length){
+                externalIds = Arrays.copyOf(externalIds, size + (size >> 1));
+            }
+            externalIds[size++] = externalId;
+        }
+        return id;
+    }
+
+    /**
+     * @param externalId external vertex ID
+     * @return dense ID, or -1 if the vertex is not in the dictionary
+     */
+    public int find(long externalId){
+        return denseIds.get(externalId, -1);
+    }
+
+    /**
+     * @param externalId external vertex ID
+     * @return dense ID (1 ... size)
+     * @throws IllegalArgumentException when the vertex is not in the dictionary
+     */
+    public int denseId(long externalId){
+        int id = find(externalId);
+        if (id == -1){
+            throw new IllegalArgumentException("Error: vertex " + externalId + " is not in the dictionary.");
+        }
+        return id;
+    }
+
+    /**
+     * @param denseId dense ID (1 ... size)
+     * @return external ID of the vertex
+     */
+    public long externalId(int denseId){
+        if (denseId < 1 || denseId > size){
+            throw new IllegalArgumentException("Error: vertex " + denseId + " is not in the dictionary.");
+        }
+        return externalIds[denseId - 1];
+    }
+
+    /**
+     * @param denseIdList dense IDs, e.g. a path
+     * @return external IDs in the same order
+     */
+    public long[] externalIds(int[] denseIdList){
+        long[] result = new long[denseIdList.length];
+        for (int i = 0; i < denseIdList.length; i++){
+            result[i] = externalId(denseIdList[i]);
+        }
+        return result;
+    }
+}
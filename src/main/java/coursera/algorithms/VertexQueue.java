@@ -0,0 +1,49 @@
+package coursera.algorithms;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper interface for ShortestPathSearcher.
+ *              A vertex queue holds items 0 to capacity - 1 (vertex indices), each with an integer key,
+ *              and supports decrease-key. IndexedMinHeap works for any keys, DialQueue and RadixHeap only for
+ *              monotone use: a key inserted or decreased to is never smaller than the last extracted key,
+ *              which is how Dijkstra's algorithm uses its queue when edge lengths are not negative.
+ **/
+public interface VertexQueue {
+    boolean isEmpty();
+
+    int size();
+
+    boolean contains(int item);
+
+    int keyOf(int item);
+
+    /**
+     * Insert an item that is not in the queue yet
+     * @param item item to be inserted
+     * @param key key of item
+     */
+    void insert(int item, int key);
+
+    /**
+     * Decrease the key of an item in the queue
+     * @param item item in queue
+     * @param key new key, must not be larger than the current key
+     */
+    void decreaseKey(int item, int key);
+
+    /**
+     * @return an item with min key, which stays in the queue
+     */
+    int peekMin();
+
+    /**
+     * Extract an item with min key
+     * @return the item
+     */
+    int extractMin();
+
+    /**
+     * Remove all items
+     */
+    void clear();
+}
@@ -0,0 +1,53 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.InputMismatchException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks the number parser of MappedInputReader at the ends of the int and long ranges.
+ **/
+class MappedInputReaderTest {
+    @TempDir
+    Path folder;
+
+    @Test
+    void readsLongRangeAndTuples() throws IOException {
+        String file = TestGraphs.write(folder, "numbers.txt",
+                "9223372036854775807 -9223372036854775808\n+12\t141,8200\n-0\n");
+        try (MappedInputReader reader = new MappedInputReader(file)){
+            assertEquals(Long.MAX_VALUE, reader.nextLong());
+            assertEquals(Long.MIN_VALUE, reader.nextLong());
+            assertEquals(12, reader.nextInt());
+            assertEquals(141, reader.nextInt());
+            assertEquals(8200, reader.nextInt());
+            assertEquals(0, reader.nextLong());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void rejectsNumbersOutOfLongRange() throws IOException {
+        for (String number : new String[]{"9223372036854775808", "-9223372036854775809", "100000000000000000000"}){
+            try (MappedInputReader reader = new MappedInputReader(TestGraphs.write(folder, "number.txt", number))){
+                assertThrows(InputMismatchException.class, reader::nextLong, number);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNumbersOutOfIntRange() throws IOException {
+        try (MappedInputReader reader = new MappedInputReader(TestGraphs.write(folder, "numbers.txt",
+                "2147483647 -2147483648 2147483648"))){
+            assertEquals(Integer.MAX_VALUE, reader.nextInt());
+            assertEquals(Integer.MIN_VALUE, reader.nextInt());
+            assertThrows(InputMismatchException.class, reader::nextInt);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks the median engines against the median of the sorted numbers after every offer: the two
+ *              heaps, the bounded domain counts and the sliding window exactly, the KLL sketch within its rank
+ *              error, also after merges. Also the approximate median sum of StreamMedianFinder, and its
+ *              assignment answers from a file and from a stream.
+ **/
+class MedianTest {
+    @Test
+    void exactEnginesMatchSortedMedian(){
+        SplittableRandom random = new SplittableRandom(31);
+        for (int trial = 0; trial < 20; trial++){
+            int size = 1 + random.nextInt(2000);
+            int spread = (trial % 2 == 0) ? 50 : 1000000;
+            int[] numbers = random.ints(size, -spread, spread + 1).toArray();
+            MedianEngine heaps = new TwoHeapMedian(random.nextInt(size + 1));
+            MedianEngine counts = new BoundedDomainMedian(-spread, spread);
+            List<Integer> sorted = new ArrayList<>();
+            for (int number : numbers){
+                heaps.offer(number);
+                counts.offer(number);
+                insertSorted(sorted, number);
+                int expected = sorted.get((sorted.size() + 1) / 2 - 1);
+                assertEquals(expected, heaps.currentMedian(), "heaps");
+                assertEquals(expected, counts.currentMedian(), "bounded domain");
+            }
+        }
+    }
+
+    @Test
+    void boundedDomainWithNumbersAtBothEnds(){
+        //the median jumps across the whole domain, the worst case of a linear scan over the counts
+        SplittableRandom random = new SplittableRandom(37);
+        int minValue = -(1 << 23);
+        int maxValue = (1 << 23) - 1;
+        MedianEngine counts = new BoundedDomainMedian(minValue, maxValue);
+        List<Integer> sorted = new ArrayList<>();
+        for (int i = 0; i < 3000; i++){
+            int number = (i % 50 == 49) ? random.nextInt(minValue, maxValue) : (i % 2 == 0) ? minValue : maxValue;
+            counts.offer(number);
+            insertSorted(sorted, number);
+            assertEquals(sorted.get((sorted.size() + 1) / 2 - 1), counts.currentMedian());
+        }
+    }
+
+    @Test
+    void slidingWindowMatchesSortedWindow(){
+        SplittableRandom random = new SplittableRandom(32);
+        for (int windowSize : new int[]{1, 2, 7, 100}){
+            int[] numbers = random.ints(1500, -300, 300).toArray();
+            SlidingWindowMedian window = new SlidingWindowMedian(windowSize);
+            for (int i = 0; i < numbers.length; i++){
+                window.offer(numbers[i]);
+                int[] last = Arrays.copyOfRange(numbers, Math.max(0, i + 1 - windowSize), i + 1);
+                Arrays.sort(last);
+                assertEquals(last[(last.length + 1) / 2 - 1], window.currentMedian(), "window " + windowSize);
+            }
+        }
+    }
+
+    @Test
+    void sketchMedianIsWithinRankError(){
+        double epsilon = 0.01;
+        SplittableRandom random = new SplittableRandom(33);
+        int[] numbers = random.ints(200000, 0, 1000000).toArray();
+        KllQuantileSketch sketch = new KllQuantileSketch(KllQuantileSketch.forError(epsilon).getK(), 1);
+        for (int number : numbers){
+            sketch.offer(number);
+        }
+        Arrays.sort(numbers);
+        assertTrue(sketch.getRankError() <= epsilon);
+        for (double q : new double[]{0.01, 0.25, 0.5, 0.75, 0.99}){
+            double error = Math.abs(rankOf(numbers, sketch.quantile(q)) - q);
+            assertTrue(error <= sketch.getRankError(), "q" + q + " rank error " + error);
+        }
+        assertTrue(Math.abs(rankOf(numbers, sketch.currentMedian()) - 0.5) <= sketch.getRankError());
+        assertTrue(sketch.getNumOfItems() < 10 * sketch.getK());
+    }
+
+    @Test
+    void mergedSketchKeepsRankError() throws IOException {
+        //8 sketches over different value ranges, so that no single input looks like the combined stream
+        SplittableRandom random = new SplittableRandom(35);
+        KllQuantileSketch merged = new KllQuantileSketch(KllQuantileSketch.forError(0.01).getK(), 1);
+        int[] all = new int[0];
+        for (int part = 0; part < 8; part++){
+            int[] numbers = random.ints(50000 + 10000 * part, part * 100000, part * 100000 + 300000).toArray();
+            KllQuantileSketch sketch = new KllQuantileSketch(merged.getK(), part + 2);
+            for (int number : numbers){
+                sketch.offer(number);
+            }
+            //every other part travels through writeTo / readFrom, as between hosts
+            if (part % 2 == 1){
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                sketch.writeTo(new DataOutputStream(bytes));
+                sketch = KllQuantileSketch.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            }
+            merged.merge(sketch);
+            int[] grown = Arrays.copyOf(all, all.length + numbers.length);
+            System.arraycopy(numbers, 0, grown, all.length, numbers.length);
+            all = grown;
+        }
+        Arrays.sort(all);
+        assertEquals(all.length, merged.count());
+        //a merged sketch has the rank error of one sketch with the same k over the combined stream
+        assertTrue(merged.getRankError() <= 0.01);
+        for (double q = 0.01; q < 1; q += 0.01){
+            double error = Math.abs(rankOf(all, merged.quantile(q)) - q);
+            assertTrue(error <= merged.getRankError(), "q" + q + " rank error " + error);
+        }
+    }
+
+    @Test
+    void approximateMedianSumIsWithinTwiceTheRankError(){
+        SplittableRandom random = new SplittableRandom(36);
+        int[] numbers = random.ints(6000, 0, 1000000).toArray();
+        StreamMedianFinder finder = new StreamMedianFinder(new KllQuantileSketch(64, 7), 1);
+        double error = 2 * finder.getRankError();
+        List<Integer> sorted = new ArrayList<>();
+        long lowest = 0;
+        long highest = 0;
+        for (int number : numbers){
+            finder.offer(number);
+            insertSorted(sorted, number);
+            int k = sorted.size();
+            lowest += sorted.get(Math.max(0, (int) Math.floor((0.5 - error) * k) - 1));
+            highest += sorted.get(Math.min(k - 1, (int) Math.ceil((0.5 + error) * k)));
+        }
+        assertTrue(finder.medianSum() >= lowest && finder.medianSum() <= highest,
+                lowest + " <= " + finder.medianSum() + " <= " + highest);
+        assertNull(finder.getSketch());
+        assertNotNull(StreamMedianFinder.approximate(0.01, 1).getSketch());
+        assertEquals(0, new StreamMedianFinder(10).getRankError());
+    }
+
+    @Test
+    void assignmentAnswers() throws IOException {
+        assertEquals(142, new StreamMedianFinder(7, "data/Median-test1.txt").medianSum() % 10000);
+        assertEquals(9335, new StreamMedianFinder(10, "data/Median-test2.txt").medianSum() % 10000);
+        assertEquals(1213, new StreamMedianFinder(10000, "data/Median.txt").medianSum() % 10000);
+    }
+
+    @Test
+    void consumeStreamMatchesOffer() throws IOException {
+        SplittableRandom random = new SplittableRandom(34);
+        int[] numbers = random.ints(5000, -100000, 100000).toArray();
+        StringBuilder text = new StringBuilder();
+        StreamMedianFinder offered = new StreamMedianFinder(numbers.length);
+        for (int number : numbers){
+            text.append(number).append(random.nextBoolean() ? "\n" : " ");
+            offered.offer(number);
+        }
+        StreamMedianFinder streamed = new StreamMedianFinder(numbers.length);
+        List<Integer> medians = new ArrayList<>();
+        streamed.consume(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.US_ASCII)), medians::add);
+        assertEquals(offered.medianSum(), streamed.medianSum());
+        assertEquals(numbers.length, medians.size());
+        assertEquals(offered.currentMedian(), (int) medians.get(medians.size() - 1));
+    }
+
+    private static void insertSorted(List<Integer> sorted, int number){
+        int idx = Collections.binarySearch(sorted, number);
+        sorted.add((idx >= 0) ? idx : -idx - 1, number);
+    }
+
+    /**
+     * @return fraction of the sorted numbers that are smaller than or equal to value
+     */
+    private static double rankOf(int[] sorted, int value){
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+        return (double) lo / sorted.length;
+    }
+}
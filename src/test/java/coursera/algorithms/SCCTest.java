@@ -0,0 +1,158 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks every SCC algorithm of GraphSCCFinder, and IncrementalSCC, against brute force
+ *              reachability on small random graphs, and the algorithms against each other on graphs large
+ *              enough for the parallel forward-backward searches.
+ **/
+class SCCTest {
+    @TempDir
+    Path folder;
+
+    @Test
+    void smallRandomGraphsMatchReachability() throws IOException {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int trial = 0; trial < 40; trial++){
+            int n = 1 + random.nextInt(40);
+            int[][] edges = TestGraphs.randomEdges(random, n, random.nextInt(3 * n), 0);
+            BitSet[] reach = TestGraphs.reachability(n, edges);
+            GraphSCCFinder finder = new GraphSCCFinder(TestGraphs.writeEdgeList(folder, n, edges));
+            for (GraphSCCFinder.Algorithm algorithm : GraphSCCFinder.Algorithm.values()){
+                SCCResult result = finder.getSCCResult(algorithm);
+                assertSameComponents(reach, result::componentOf, algorithm.name());
+                assertArrayEquals(topSizes(reach, 5), finder.getSCC(algorithm), algorithm.name());
+            }
+        }
+    }
+
+    @Test
+    void assignmentTestCases() throws IOException {
+        int[][] answers = {{3, 3, 3, 0, 0}, {3, 3, 2, 0, 0}, {3, 3, 1, 1, 0}, {7, 1, 0, 0, 0}, {6, 3, 2, 1, 0}};
+        for (int i = 0; i < answers.length; i++){
+            GraphSCCFinder finder = new GraphSCCFinder("data/SCC-test" + (i + 1) + ".txt");
+            for (GraphSCCFinder.Algorithm algorithm : GraphSCCFinder.Algorithm.values()){
+                assertArrayEquals(answers[i], finder.getSCC(algorithm), "SCC-test" + (i + 1) + " " + algorithm);
+            }
+        }
+    }
+
+    @Test
+    void largeGraphAlgorithmsAgree(){
+        //chains of 50 vertices closed into cycles and linked forward, so there are many SCCs above the size
+        //where ParallelSCC hands subproblems to Tarjan
+        SplittableRandom random = new SplittableRandom(2);
+        int n = 20000;
+        int[][] edges = new int[3 * n][];
+        int m = 0;
+        for (int v = 1; v <= n; v++){
+            int next = (v % 50 == 0) ? v - 49 : v + 1;
+            edges[m++] = new int[]{v, next, 0};
+            if (random.nextInt(4) == 0){
+                int ahead = Math.min(n, v + 1 + random.nextInt(200));
+                edges[m++] = new int[]{v, ahead, 0};
+            }
+        }
+        //a few backward links merge runs of chains into large components
+        for (int i = 0; i < 60; i++){
+            int v = 1 + random.nextInt(n);
+            edges[m++] = new int[]{v, Math.max(1, v - random.nextInt(6000)), 0};
+        }
+        CompactGraph graph = TestGraphs.build(n, Arrays.copyOf(edges, m), false);
+        TarjanSCC tarjan = new TarjanSCC(graph);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            ParallelSCC parallel = new ParallelSCC(graph, graph.reverse(), pool);
+            assertEquals(tarjan.getNumOfComponents(), parallel.getNumOfComponents());
+            int[] tarjanComponent = tarjan.getComponent();
+            int[] parallelComponent = parallel.getComponent();
+            int[] mapping = new int[tarjan.getNumOfComponents()];
+            Arrays.fill(mapping, -1);
+            for (int v = 0; v < n; v++){
+                if (mapping[tarjanComponent[v]] == -1){
+                    mapping[tarjanComponent[v]] = parallelComponent[v];
+                }
+                assertEquals(mapping[tarjanComponent[v]], parallelComponent[v], "vertex " + (v + 1));
+            }
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void incrementalMatchesReachabilityAfterEachEdge() throws IOException {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int trial = 0; trial < 10; trial++){
+            int n = 2 + random.nextInt(30);
+            int[][] edges = TestGraphs.randomEdges(random, n, n, 0);
+            IncrementalSCC incremental = new GraphSCCFinder(TestGraphs.writeEdgeList(folder, n, edges))
+                    .getIncrementalSCC();
+            int[][] grown = Arrays.copyOf(edges, edges.length + 2 * n);
+            for (int i = edges.length; i < grown.length; i++){
+                grown[i] = new int[]{random.nextInt(n) + 1, random.nextInt(n) + 1, 0};
+                incremental.addEdge(grown[i][0], grown[i][1]);
+                BitSet[] reach = TestGraphs.reachability(n, Arrays.copyOf(grown, i + 1));
+                assertSameComponents(reach, incremental::componentOf, "after edge " + i);
+                assertEquals(countComponents(reach), incremental.getNumOfComponents());
+                assertArrayEquals(topSizes(reach, 5), incremental.topComponentSizes(5));
+            }
+        }
+    }
+
+    private static void assertSameComponents(BitSet[] reach, IntUnaryOperator componentOf, String message){
+        int n = reach.length;
+        for (int u = 0; u < n; u++){
+            for (int v = 0; v < n; v++){
+                boolean strong = reach[u].get(v) && reach[v].get(u);
+                assertEquals(strong, componentOf.applyAsInt(u + 1) == componentOf.applyAsInt(v + 1),
+                        message + ": vertices " + (u + 1) + " and " + (v + 1));
+            }
+        }
+    }
+
+    private static int countComponents(BitSet[] reach){
+        int count = 0;
+        for (int v = 0; v < reach.length; v++){
+            if (smallestInComponent(reach, v) == v){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int[] topSizes(BitSet[] reach, int k){
+        int n = reach.length;
+        int[] sizes = new int[n];
+        for (int v = 0; v < n; v++){
+            sizes[smallestInComponent(reach, v)]++;
+        }
+        Arrays.sort(sizes);
+        int[] top = new int[k];
+        for (int i = 0; i < k && i < n; i++){
+            top[i] = sizes[n - 1 - i];
+        }
+        return top;
+    }
+
+    private static int smallestInComponent(BitSet[] reach, int v){
+        for (int u = 0; ; u++){
+            if (reach[u].get(v) && reach[v].get(u)){
+                return u;
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks the shortest path engines against Bellman-Ford on random graphs: every frontier queue of
+ *              ShortestPathSearcher (full, early exit and bidirectional searches), delta-stepping with small,
+ *              default and large bucket widths, ALT with and without landmarks, and the queries of
+ *              DijkstraShortestPathFinder (multi-source, cached and landmark file round trip).
+ *              Landmark and snapshot files with a flipped bit must be rejected by their checksum.
+ *              Lengths include 0, and large lengths so that the radix heap spans many buckets.
+ **/
+class ShortestPathTest {
+    private static final int NO_PATH_LENGTH = 1000000; //noPathLength of DijkstraShortestPathFinder
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void searchersMatchBellmanFord(){
+        SplittableRandom random = new SplittableRandom(11);
+        for (int trial = 0; trial < 30; trial++){
+            int n = 1 + random.nextInt(60);
+            int maxLength = (trial % 3 == 0) ? 1000000 : (trial % 3 == 1) ? 10 : 1000;
+            int[][] edges = TestGraphs.randomEdges(random, n, random.nextInt(4 * n + 1), maxLength);
+            CompactGraph graph = TestGraphs.build(n, edges, true);
+            CompactGraph reversed = graph.reverse();
+            for (ShortestPathSearcher.QueueType queueType : ShortestPathSearcher.QueueType.values()){
+                if (queueType == ShortestPathSearcher.QueueType.DIAL
+                        && graph.getMaxWeight() > ShortestPathSearcher.DIAL_MAX_WEIGHT){
+                    continue;
+                }
+                ShortestPathSearcher searcher = new ShortestPathSearcher(graph, queueType);
+                ShortestPathSearcher backward = new ShortestPathSearcher(reversed, queueType);
+                for (int source = 0; source < n; source++){
+                    long[] expected = TestGraphs.bellmanFord(n, edges, source);
+                    searcher.search(source);
+                    for (int v = 0; v < n; v++){
+                        assertEquals(expected[v], widen(searcher.distanceTo(v)), queueType + " " + source + "->" + v);
+                        assertPath(edges, expected[v], searcher.pathTo(v), source, v);
+                    }
+                    int target = random.nextInt(n);
+                    assertEquals(expected[target], widen(searcher.searchTo(source, target)), queueType + " early exit");
+                    int meet = ShortestPathSearcher.bidirectionalSearch(searcher, backward, source, target);
+                    long length = (meet == -1) ? TestGraphs.NO_PATH
+                            : (long) searcher.distanceTo(meet) + backward.distanceTo(meet);
+                    assertEquals(expected[target], length, queueType + " bidirectional");
+                }
+            }
+        }
+    }
+
+    @Test
+    void deltaSteppingMatchesBellmanFord(){
+        SplittableRandom random = new SplittableRandom(12);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            for (int trial = 0; trial < 20; trial++){
+                int n = 1 + random.nextInt(200);
+                int maxLength = (trial % 2 == 0) ? 100 : 100000;
+                int[][] edges = TestGraphs.randomEdges(random, n, random.nextInt(5 * n + 1), maxLength);
+                CompactGraph graph = TestGraphs.build(n, edges, true);
+                int[] deltas = {1, DeltaSteppingSearcher.defaultDelta(graph), maxLength + 1};
+                for (int delta : deltas){
+                    DeltaSteppingSearcher searcher = new DeltaSteppingSearcher(graph, delta, pool);
+                    for (int source = 0; source < n; source += 1 + n / 10){
+                        long[] expected = TestGraphs.bellmanFord(n, edges, source);
+                        searcher.search(source);
+                        for (int v = 0; v < n; v++){
+                            assertEquals(expected[v], widen(searcher.distanceTo(v)), "delta " + delta);
+                        }
+                    }
+                }
+            }
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void altMatchesBellmanFord(){
+        SplittableRandom random = new SplittableRandom(13);
+        for (int trial = 0; trial < 20; trial++){
+            int n = 1 + random.nextInt(80);
+            int[][] edges = TestGraphs.randomEdges(random, n, random.nextInt(4 * n + 1), 1000);
+            CompactGraph graph = TestGraphs.build(n, edges, true);
+            LandmarkIndex index = LandmarkIndex.build(graph, graph.reverse(), Math.min(n, 1 + random.nextInt(8)));
+            AltSearcher[] searchers = {new AltSearcher(graph, index), new AltSearcher(graph, null)};
+            for (int source = 0; source < n; source++){
+                long[] expected = TestGraphs.bellmanFord(n, edges, source);
+                for (int target = 0; target < n; target++){
+                    for (AltSearcher searcher : searchers){
+                        assertEquals(expected[target], widen(searcher.searchTo(source, target)), source + "->" + target);
+                        assertPath(edges, expected[target], searcher.pathTo(target), source, target);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void finderQueriesMatchBellmanFord() throws IOException {
+        SplittableRandom random = new SplittableRandom(14);
+        int n = 120;
+        int[][] edges = TestGraphs.randomEdges(random, n, 500, 5000);
+        DijkstraShortestPathFinder finder = new DijkstraShortestPathFinder(TestGraphs.writeAdjacencyList(folder, n, edges));
+        finder.buildLandmarks(8);
+        String landmarkFile = folder.resolve("graph.landmarks").toString();
+        finder.getLandmarks().save(landmarkFile);
+        DijkstraShortestPathFinder loaded = new DijkstraShortestPathFinder(folder.resolve("graph.txt").toString());
+        loaded.loadLandmarks(landmarkFile);
+        finder.setDistanceCache(10 * (16 + 4L * n));
+
+        int[] sources = {1, 17, 60, 120};
+        int[][] multi = finder.multiSourceSearch(sources);
+        for (int i = 0; i < sources.length; i++){
+            long[] expected = TestGraphs.bellmanFord(n, edges, sources[i] - 1);
+            int[] cached = finder.cachedSearch(sources[i]);
+            for (int id = 1; id <= n; id++){
+                int expectedLength = (expected[id - 1] == TestGraphs.NO_PATH) ? NO_PATH_LENGTH : (int) expected[id - 1];
+                assertEquals(expectedLength, multi[i][id - 1]);
+                assertEquals(expectedLength, cached[id - 1]);
+                assertEquals(expectedLength, finder.distance(sources[i], id));
+                assertEquals(expectedLength, finder.bidirectionalDistance(sources[i], id));
+                assertEquals(expectedLength, finder.altDistance(sources[i], id));
+                assertEquals(expectedLength, loaded.altDistance(sources[i], id));
+            }
+            assertSame(cached, finder.cachedSearch(sources[i]));
+        }
+    }
+
+    @Test
+    void zeroLengthEdgesGiveDistinctLandmarks(){
+        //every vertex is at distance 0 from every other, so farthest selection sees only ties
+        int n = 12;
+        int[][] edges = new int[n][];
+        for (int v = 1; v <= n; v++){
+            edges[v - 1] = new int[]{v, v % n + 1, 0};
+        }
+        LandmarkIndex index = LandmarkIndex.build(TestGraphs.build(n, edges, true), TestGraphs.build(n, edges, true)
+                .reverse(), n);
+        assertEquals(n, Arrays.stream(index.getLandmarks()).distinct().count());
+    }
+
+    @Test
+    void corruptedFilesAreRejected() throws IOException {
+        SplittableRandom random = new SplittableRandom(15);
+        int n = 50;
+        int[][] edges = TestGraphs.randomEdges(random, n, 200, 100);
+        CompactGraph graph = TestGraphs.build(n, edges, true);
+        String landmarkFile = folder.resolve("graph.landmarks").toString();
+        String snapshotFile = folder.resolve("graph.snap").toString();
+        LandmarkIndex.build(graph, graph.reverse(), 4).save(landmarkFile);
+        GraphSnapshot.write(snapshotFile, graph, graph.reverse(), null);
+        GraphSnapshot snapshot = GraphSnapshot.load(snapshotFile, null, true);
+        assertArrayEquals(graph.getOffsets(), snapshot.getGraph().getOffsets());
+        assertArrayEquals(graph.getTargets(), snapshot.getGraph().getTargets());
+        assertArrayEquals(graph.getWeights(), snapshot.getGraph().getWeights());
+        assertArrayEquals(graph.reverse().getWeights(), snapshot.getReversed().getWeights());
+        assertEquals(4, LandmarkIndex.load(landmarkFile, graph).getNumOfLandmarks());
+
+        for (String file : new String[]{landmarkFile, snapshotFile}){
+            byte[] bytes = Files.readAllBytes(Path.of(file));
+            bytes[bytes.length - 3] ^= 1; //a bit of the last table, after the header
+            Files.write(Path.of(file), bytes);
+        }
+        IOException e = assertThrows(IOException.class, () -> LandmarkIndex.load(landmarkFile, graph));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+        e = assertThrows(IOException.class, () -> GraphSnapshot.load(snapshotFile, null, true));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+    }
+
+    @Test
+    void longPathsDoNotOverflow() throws IOException {
+        //1->2->3 is 4e9 long, beyond int range, 1->4->3 is the shortest path, 5 is only reached beyond int range
+        String file = TestGraphs.write(folder, "long.txt",
+                "1\t2,2000000000\t4,5\n2\t3,2000000000\n3\t5,2000000000\n4\t3,2000000000\n5\n");
+        DijkstraShortestPathFinder finder = new DijkstraShortestPathFinder(file);
+        assertEquals(ShortestPathSearcher.QueueType.RADIX, finder.getQueueType());
+        finder.dijkstraSearch(1);
+        assertEquals(2000000005, finder.distance(1, 3));
+        assertEquals(ShortestPathSearcher.MAX_LENGTH, finder.distance(1, 5));
+        assertEquals(2000000005, finder.bidirectionalDistance(1, 3));
+        assertArrayEquals(new int[]{1, 4, 3}, finder.path(1, 3));
+    }
+
+    @Test
+    void everyQueueCapsLongPaths(){
+        //a wrapped score of the binary heap was negative and won every comparison, silently
+        int[][] edges = {{1, 2, 2000000000}, {1, 4, 5}, {2, 3, 2000000000}, {3, 5, 2000000000}, {4, 3, 2000000000},
+                {2, 5, Integer.MAX_VALUE}};
+        CompactGraph graph = TestGraphs.build(5, edges, true);
+        for (ShortestPathSearcher.QueueType queueType : ShortestPathSearcher.QueueType.values()){
+            if (queueType == ShortestPathSearcher.QueueType.DIAL){continue;} //lengths above DIAL_MAX_WEIGHT
+            ShortestPathSearcher searcher = new ShortestPathSearcher(graph, queueType);
+            searcher.search(0);
+            assertEquals(2000000000, searcher.distanceTo(1), queueType.name());
+            assertEquals(2000000005, searcher.distanceTo(2), queueType.name());
+            assertEquals(ShortestPathSearcher.MAX_LENGTH, searcher.distanceTo(4), queueType.name());
+            assertEquals(2000000005, searcher.searchTo(0, 2), queueType.name());
+        }
+    }
+
+    @Test
+    void deltaSteppingCapsLongPaths(){
+        int[][] edges = {{1, 2, 2000000000}, {1, 4, 5}, {2, 3, 2000000000}, {3, 5, 2000000000}, {4, 3, 2000000000},
+                {2, 5, Integer.MAX_VALUE}};
+        CompactGraph graph = TestGraphs.build(5, edges, true);
+        ShortestPathSearcher sequential = new ShortestPathSearcher(graph);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try{
+            for (int delta : new int[]{1000, DeltaSteppingSearcher.defaultDelta(graph), Integer.MAX_VALUE}){
+                DeltaSteppingSearcher searcher = new DeltaSteppingSearcher(graph, delta, pool);
+                for (int source = 0; source < 5; source++){
+                    sequential.search(source);
+                    searcher.search(source);
+                    for (int v = 0; v < 5; v++){
+                        assertEquals(sequential.distanceTo(v), searcher.distanceTo(v), "delta " + delta);
+                    }
+                }
+                searcher.search(0);
+                assertEquals(ShortestPathSearcher.MAX_LENGTH, searcher.distanceTo(4), "delta " + delta);
+            }
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void altCapsLongPaths(){
+        //scores and score + bound keys beyond int range used to wrap and break the radix heap order
+        SplittableRandom random = new SplittableRandom(16);
+        for (int trial = 0; trial < 10; trial++){
+            int n = 2 + random.nextInt(40);
+            int[][] edges = TestGraphs.randomEdges(random, n, random.nextInt(3 * n + 1), 1500000000);
+            CompactGraph graph = TestGraphs.build(n, edges, true);
+            LandmarkIndex index = LandmarkIndex.build(graph, graph.reverse(), Math.min(n, 4));
+            AltSearcher[] searchers = {new AltSearcher(graph, index), new AltSearcher(graph, null)};
+            for (int source = 0; source < n; source++){
+                long[] expected = TestGraphs.bellmanFord(n, edges, source);
+                for (int target = 0; target < n; target++){
+                    long capped = (expected[target] == TestGraphs.NO_PATH) ? TestGraphs.NO_PATH
+                            : Math.min(expected[target], ShortestPathSearcher.MAX_LENGTH);
+                    for (AltSearcher searcher : searchers){
+                        assertEquals(capped, widen(searcher.searchTo(source, target)), source + "->" + target);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void assignmentAnswer() throws IOException {
+        DijkstraShortestPathFinder finder = new DijkstraShortestPathFinder("data/dijkstraData.txt");
+        int[] id = {7, 37, 59, 82, 99, 115, 133, 165, 188, 197};
+        int[] answer = {2599, 2610, 2947, 2052, 2367, 2399, 2029, 2442, 2505, 3068};
+        for (int i = 0; i < id.length; i++){
+            assertEquals(answer[i], finder.distance(1, id[i]));
+        }
+    }
+
+    @Test
+    void negativeLengthsAreRejectedAtLoad() throws IOException {
+        String file = TestGraphs.write(folder, "negative.txt", "1\t2,5\t3,1\n2\t3,-10\n3\t4,1\n4\n");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new DijkstraShortestPathFinder(file));
+        assertEquals("Error: edge lengths must not be negative.", e.getMessage());
+        CompactGraph graph = TestGraphs.build(2, new int[][]{{1, 2, -1}}, true);
+        for (ShortestPathSearcher.QueueType queueType : ShortestPathSearcher.QueueType.values()){
+            assertThrows(IllegalArgumentException.class, () -> new ShortestPathSearcher(graph, queueType));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ShortestPathSearcher.chooseQueue(graph));
+        assertThrows(IllegalArgumentException.class, () -> new ShortestPathSearcher(graph));
+    }
+
+    private static long widen(int length){
+        return (length == Integer.MAX_VALUE) ? TestGraphs.NO_PATH : length;
+    }
+
+    private static void assertPath(int[][] edges, long expected, int[] path, int source, int target){
+        if (expected == TestGraphs.NO_PATH){
+            assertEquals(0, path.length);
+            return;
+        }
+        assertEquals(source, path[0]);
+        assertEquals(target, path[path.length - 1]);
+        assertEquals(expected, TestGraphs.pathLength(edges, path));
+    }
+}
@@ -0,0 +1,164 @@
+package coursera.algorithms;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Helper class for the tests.
+ *              Seeded random graphs, written in the formats of the data folder, and the brute force answers
+ *              (reachability by BFS from every vertex, Bellman-Ford distances) the engines are checked against.
+ *              Edges are {tail ID, head ID, length} with IDs 1 ... n.
+ **/
+final class TestGraphs {
+    static final long NO_PATH = Long.MAX_VALUE; //Bellman-Ford distance of an unreachable vertex
+
+    private TestGraphs(){
+    }
+
+    /**
+     * @param n number of vertices, all of them get an ID even if they have no edges
+     * @param m number of edges, self loops and parallel edges included
+     * @param maxLength edge lengths are in 0 ... maxLength
+     */
+    static int[][] randomEdges(SplittableRandom random, int n, int m, int maxLength){
+        int[][] edges = new int[m][];
+        for (int i = 0; i < m; i++){
+            edges[i] = new int[]{random.nextInt(n) + 1, random.nextInt(n) + 1, random.nextInt(maxLength + 1)};
+        }
+        return edges;
+    }
+
+    static CompactGraph build(int n, int[][] edges, boolean weighted){
+        EdgeListBuilder builder = new EdgeListBuilder(weighted);
+        builder.addVertex(n);
+        for (int[] edge : edges){
+            builder.addEdge(edge[0], edge[1], edge[2]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Write the edges in SCC.txt format, one "tail head" line per edge
+     */
+    static String writeEdgeList(Path folder, int n, int[][] edges) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int[] edge : edges){
+            text.append(edge[0]).append(' ').append(edge[1]).append('\n');
+        }
+        text.append(n).append(' ').append(n).append('\n'); //self loop so that vertex n exists
+        return write(folder, "graph.txt", text);
+    }
+
+    /**
+     * Write the edges in dijkstraData.txt format, one line per vertex with its "head,length" pairs
+     */
+    static String writeAdjacencyList(Path folder, int n, int[][] edges) throws IOException {
+        StringBuilder[] lines = new StringBuilder[n];
+        for (int v = 0; v < n; v++){
+            lines[v] = new StringBuilder().append(v + 1);
+        }
+        for (int[] edge : edges){
+            lines[edge[0] - 1].append('\t').append(edge[1]).append(',').append(edge[2]);
+        }
+        StringBuilder text = new StringBuilder();
+        for (StringBuilder line : lines){
+            text.append(line).append('\n');
+        }
+        return write(folder, "graph.txt", text);
+    }
+
+    static String write(Path folder, String fileName, CharSequence text) throws IOException {
+        Path file = folder.resolve(fileName);
+        Files.writeString(file, text);
+        return file.toString();
+    }
+
+    /**
+     * @return reach[u].get(v) is true if v can be reached from u (index = ID - 1), every vertex reaches itself
+     */
+    static BitSet[] reachability(int n, int[][] edges){
+        int[][] out = adjacency(n, edges);
+        BitSet[] reach = new BitSet[n];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int s = 0; s < n; s++){
+            reach[s] = new BitSet(n);
+            reach[s].set(s);
+            queue.add(s);
+            while (!queue.isEmpty()){
+                int v = queue.poll();
+                for (int w : out[v]){
+                    if (!reach[s].get(w)){
+                        reach[s].set(w);
+                        queue.add(w);
+                    }
+                }
+            }
+        }
+        return reach;
+    }
+
+    /**
+     * @return distances from source index (ID - 1) by Bellman-Ford, NO_PATH if not reachable
+     */
+    static long[] bellmanFord(int n, int[][] edges, int source){
+        long[] distance = new long[n];
+        Arrays.fill(distance, NO_PATH);
+        distance[source] = 0;
+        for (int round = 0; round < n; round++){
+            boolean changed = false;
+            for (int[] edge : edges){
+                long d = distance[edge[0] - 1];
+                if (d != NO_PATH && d + edge[2] < distance[edge[1] - 1]){
+                    distance[edge[1] - 1] = d + edge[2];
+                    changed = true;
+                }
+            }
+            if (!changed){
+                break;
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * @return length of the path of vertex indices, or -1 if some step is not an edge
+     */
+    static long pathLength(int[][] edges, int[] path){
+        long length = 0;
+        for (int i = 0; i + 1 < path.length; i++){
+            long best = -1;
+            for (int[] edge : edges){
+                if (edge[0] - 1 == path[i] && edge[1] - 1 == path[i + 1] && (best == -1 || edge[2] < best)){
+                    best = edge[2];
+                }
+            }
+            if (best == -1){
+                return -1;
+            }
+            length += best;
+        }
+        return length;
+    }
+
+    private static int[][] adjacency(int n, int[][] edges){
+        int[] degree = new int[n];
+        for (int[] edge : edges){
+            degree[edge[0] - 1]++;
+        }
+        int[][] out = new int[n][];
+        for (int v = 0; v < n; v++){
+            out[v] = new int[degree[v]];
+            degree[v] = 0;
+        }
+        for (int[] edge : edges){
+            out[edge[0] - 1][degree[edge[0] - 1]++] = edge[1] - 1;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,138 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks every 2-SUM engine of TwoSumFinder against a brute force count over all pairs of
+ *              distinct values, on random inputs with repetitions, negative numbers and values far apart.
+ **/
+class TwoSumTest {
+    @TempDir
+    Path folder;
+
+    @Test
+    void enginesMatchBruteForce() throws IOException {
+        SplittableRandom random = new SplittableRandom(21);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            for (int trial = 0; trial < 30; trial++){
+                int size = 1 + random.nextInt(600);
+                long spread = (trial % 3 == 0) ? 100 : (trial % 3 == 1) ? 10000 : 100000000000L;
+                long[] numbers = new long[size];
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < size; i++){
+                    numbers[i] = (i > 0 && random.nextInt(10) == 0) ? numbers[random.nextInt(i)]
+                            : random.nextLong(-spread, spread + 1);
+                    text.append(numbers[i]).append('\n');
+                }
+                String file = TestGraphs.write(folder, "numbers.txt", text);
+                int low = -random.nextInt(20000);
+                int high = low + random.nextInt(30000);
+                int expected = bruteForce(numbers, low, high);
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSum(low, high), "auto");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSum(low, high), "auto");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumSorted(low, high), "sorted");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumBucketed(low, high), "bucketed");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumBucketed(low, high), "bucketed");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumParallel(low, high, pool), "parallel");
+
+                //engines run one after another on the same finder (sorted numbers, cached bucket index)
+                TwoSumFinder finder = new TwoSumFinder(file);
+                assertEquals(expected, finder.numOfTwoSumBucketed(low, high));
+                assertEquals(expected, finder.numOfTwoSumSorted(low, high));
+                assertEquals(expected, finder.numOfTwoSumBucketed(low, high));
+                assertEquals(expected, finder.numOfTwoSum(low, high));
+            }
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void emptyRange() throws IOException {
+        TwoSumFinder finder = new TwoSumFinder(TestGraphs.write(folder, "numbers.txt", "1\n2\n"));
+        assertEquals(0, finder.numOfTwoSum(5, 4));
+        assertEquals(1, finder.numOfTwoSum(3, 3));
+        assertEquals(0, finder.numOfTwoSum(4, 4)); //2 + 2 uses the same number twice
+    }
+
+    @Test
+    void numbersAtTheEndsOfTheLongRange() throws IOException {
+        //x + y and the window ends low - x, high - x overflow for these numbers
+        String file = TestGraphs.write(folder, "numbers.txt", "-9223372036854775803\n9223372036854775807\n");
+        assertEquals(1, new TwoSumFinder(file).numOfTwoSumSorted(0, 10));
+        assertEquals(1, new TwoSumFinder(file).numOfTwoSumBucketed(0, 10));
+        assertEquals(0, new TwoSumFinder(TestGraphs.write(folder, "numbers.txt",
+                "9223372036854775806\n9223372036854775807\n")).numOfTwoSumBucketed(-10, 0)); //wraps to -3
+
+        SplittableRandom random = new SplittableRandom(22);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            for (int trial = 0; trial < 20; trial++){
+                int size = 2 + random.nextInt(300);
+                long[] numbers = new long[size];
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < size; i++){
+                    int kind = random.nextInt(4);
+                    numbers[i] = (kind == 0) ? Long.MIN_VALUE + random.nextInt(20000)
+                            : (kind == 1) ? Long.MAX_VALUE - random.nextInt(20000) : random.nextLong(-20000, 20000);
+                    text.append(numbers[i]).append('\n');
+                }
+                file = TestGraphs.write(folder, "numbers.txt", text);
+                int low = -random.nextInt(20000);
+                int high = low + random.nextInt(30000);
+                int expected = bruteForce(numbers, low, high);
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSum(low, high), "auto");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumSorted(low, high), "sorted");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumBucketed(low, high), "bucketed");
+                assertEquals(expected, new TwoSumFinder(file).numOfTwoSumParallel(low, high, pool), "parallel");
+            }
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void bucketIndexTableSize(){
+        //a power of two with at most 70% of the slots in use, so 1.4 to 2.9 slots per number
+        for (int size : new int[]{1000, 1 << 20, 3000000}){
+            long slots = TwoSumBucketIndex.tableBytes(size) / 8;
+            assertEquals(1, Long.bitCount(slots));
+            assertTrue(slots >= size / 0.7 && slots < 2 * size / 0.7, size + " numbers, " + slots + " slots");
+        }
+    }
+
+    private static int bruteForce(long[] numbers, int low, int high){
+        long[] distinct = Arrays.stream(numbers).distinct().toArray();
+        boolean[] found = new boolean[high - low + 1];
+        int count = 0;
+        for (int i = 0; i < distinct.length; i++){
+            for (int j = i + 1; j < distinct.length; j++){
+                long t;
+                try{
+                    t = Math.addExact(distinct[i], distinct[j]);
+                }
+                catch (ArithmeticException e){
+                    continue; //far outside of [low, high]
+                }
+                if (t >= low && t <= high && !found[(int) (t - low)]){
+                    found[(int) (t - low)] = true;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
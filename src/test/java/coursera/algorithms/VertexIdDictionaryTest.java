@@ -0,0 +1,100 @@
+package coursera.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Project: Coursera Algorithms by Standford University: Graph Search, Shortest Paths, and Data Structures.
+ * Description: Checks VertexIdDictionary and the hash table size of LongIntHashMap, and the queries of
+ *              DijkstraShortestPathFinder by the vertex IDs of the input file: a graph with sparse 64-bit IDs
+ *              must give the same answers as the same graph with IDs 1 ... n.
+ **/
+class VertexIdDictionaryTest {
+    private static final long ID_STEP = 1000000007L; //File ID of vertex v is v * ID_STEP + 5, far above int range
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void hashTableSizeIsClamped(){
+        assertEquals(8, LongIntHashMap.capacityFor(0));
+        assertEquals(2048, LongIntHashMap.capacityFor(1000));
+        //expectedSize / MAX_LOAD above 2^30 used to shift into Integer.MIN_VALUE
+        assertEquals(1 << 30, LongIntHashMap.capacityFor(800000000));
+        assertEquals(1 << 30, LongIntHashMap.capacityFor(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void dictionaryMapsInOrderOfFirstAppearance(){
+        VertexIdDictionary ids = new VertexIdDictionary(2);
+        long[] external = {Long.MAX_VALUE, -3, Long.MIN_VALUE, 42, -3, 1L << 40};
+        int[] expected = {1, 2, 3, 4, 2, 5};
+        for (int i = 0; i < external.length; i++){
+            assertEquals(expected[i], ids.idOf(external[i]));
+        }
+        assertEquals(5, ids.size());
+        assertEquals(3, ids.denseId(Long.MIN_VALUE));
+        assertEquals(-1, ids.find(7));
+        assertThrows(IllegalArgumentException.class, () -> ids.denseId(7));
+        assertArrayEquals(new long[]{1L << 40, Long.MAX_VALUE}, ids.externalIds(new int[]{5, 1}));
+    }
+
+    @Test
+    void queriesByFileIdMatchDenseGraph() throws IOException {
+        SplittableRandom random = new SplittableRandom(41);
+        int n = 80;
+        int[][] edges = TestGraphs.randomEdges(random, n, 300, 1000);
+        DijkstraShortestPathFinder dense = new DijkstraShortestPathFinder(TestGraphs.writeAdjacencyList(folder, n, edges));
+        //the same graph with sparse IDs, lines in reverse order so that dense IDs differ from the file order
+        StringBuilder[] lines = new StringBuilder[n];
+        for (int v = 1; v <= n; v++){
+            lines[v - 1] = new StringBuilder().append(fileId(v));
+        }
+        for (int[] edge : edges){
+            lines[edge[0] - 1].append('\t').append(fileId(edge[1])).append(',').append(edge[2]);
+        }
+        StringBuilder text = new StringBuilder();
+        for (int v = n; v >= 1; v--){
+            text.append(lines[v - 1]).append('\n');
+        }
+        DijkstraShortestPathFinder sparse = new DijkstraShortestPathFinder(
+                TestGraphs.write(folder, "sparse.txt", text), new VertexIdDictionary(n));
+        sparse.buildLandmarks(4);
+
+        for (int source = 1; source <= n; source += 7){
+            for (int target = 1; target <= n; target++){
+                int expected = dense.distance(source, target);
+                assertEquals(expected, sparse.distance(fileId(source), fileId(target)));
+                assertEquals(expected, sparse.bidirectionalDistance(fileId(source), fileId(target)));
+                assertEquals(expected, sparse.altDistance(fileId(source), fileId(target)));
+                long[] path = sparse.path(fileId(source), fileId(target));
+                if (path.length == 0){
+                    assertEquals(0, dense.path(source, target).length);
+                    continue;
+                }
+                int[] indices = new int[path.length];
+                for (int i = 0; i < path.length; i++){
+                    indices[i] = (int) ((path[i] - 5) / ID_STEP) - 1;
+                }
+                assertEquals(source - 1, indices[0]);
+                assertEquals(target - 1, indices[indices.length - 1]);
+                assertEquals(expected, TestGraphs.pathLength(edges, indices));
+            }
+        }
+        //without a dictionary the file IDs are the vertex IDs
+        assertEquals(dense.distance(3, 9), dense.distance(3L, 9L));
+        assertArrayEquals(new long[]{5}, dense.path(5L, 5L));
+        assertThrows(IllegalArgumentException.class, () -> dense.distance(0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> sparse.distance(fileId(1), 7L));
+    }
+
+    private static long fileId(int v){
+        return v * ID_STEP + 5;
+    }
+}